@@ -0,0 +1,41 @@
+package co.kr.timfresh.orderapi.dto;
+
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Order;
+import co.kr.timfresh.orderapi.entity.OrderItem;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Order 엔티티를 응답 DTO 로 변환 (주문 항목 수별)
+ */
+@State(Scope.Benchmark)
+public class OrderResponseMappingBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = Order.create("20240222-145623-987-001000", Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT));
+        for (int i = 0; i < itemCount; i++) {
+            Product product = Product.create("상품 " + i, BigDecimal.valueOf(1000 + i), 100);
+            order.addOrderItem(OrderItem.create(product, i + 1, Money.of(BigDecimal.valueOf(1000 + i)).times(i + 1)));
+        }
+    }
+
+    @Benchmark
+    public OrderResponseDto toResponse() {
+        return new OrderResponseDto(order);
+    }
+}
@@ -0,0 +1,48 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컴파일된 가격 규칙 테이블 조회 (상품별 수량 구간 수별)
+ */
+@State(Scope.Benchmark)
+public class PriceRuleTableBenchmark {
+
+    private static final int PRODUCT_COUNT = 10_000;
+
+    @Param({"1", "8", "64"})
+    private int tierCount;
+
+    private PriceRuleTable table;
+
+    // JIT 가 상수로 접지 않도록 final 로 두지 않음
+    private Long productId = 4_321L;
+    private CustomerType customerType = CustomerType.VIP;
+    private int quantity = 37;
+
+    @Setup
+    public void setUp() {
+        List<PriceRule> rules = new ArrayList<>();
+        rules.add(PriceRule.create(null, CustomerType.VIP, 1, 100));
+        for (long id = 1; id <= PRODUCT_COUNT; id++) {
+            for (int tier = 0; tier < tierCount; tier++) {
+                rules.add(PriceRule.create(id, tier % 2 == 0 ? null : CustomerType.VIP, 1 + tier * 5, 100 + tier * 10));
+            }
+        }
+        table = PriceRuleTable.compile(rules);
+    }
+
+    @Benchmark
+    public int rateOf() {
+        return table.rateOf(productId, customerType, quantity);
+    }
+}
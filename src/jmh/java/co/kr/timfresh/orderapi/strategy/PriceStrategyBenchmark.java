@@ -0,0 +1,54 @@
+package co.kr.timfresh.orderapi.strategy;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 가격 계산과 가격 전략 조회
+ * <p>
+ * bigDecimal* 은 Money 도입 전 BigDecimal 계산으로, gc.alloc.rate.norm 비교 기준
+ */
+@State(Scope.Benchmark)
+public class PriceStrategyBenchmark {
+
+    private final DefaultPriceStrategy defaultPriceStrategy = new DefaultPriceStrategy();
+    private final VipPriceStrategy vipPriceStrategy = new VipPriceStrategy();
+    private final PriceStrategyFactory priceStrategyFactory = new PriceStrategyFactory(defaultPriceStrategy, vipPriceStrategy);
+
+    // JIT 가 상수로 접지 않도록 final 로 두지 않음
+    private BigDecimal basePrice = new BigDecimal("12900.50");
+    private Money unitPrice = Money.of(basePrice);
+    private int quantity = 3;
+    private CustomerType customerType = CustomerType.VIP;
+
+    @Benchmark
+    public Money defaultPrice() {
+        return defaultPriceStrategy.calculatePrice(unitPrice, quantity);
+    }
+
+    @Benchmark
+    public Money vipPrice() {
+        return vipPriceStrategy.calculatePrice(unitPrice, quantity);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalDefaultPrice() {
+        return basePrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalVipPrice() {
+        return basePrice.multiply(BigDecimal.valueOf(quantity)).multiply(BigDecimal.valueOf(0.9)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public PriceStrategy getStrategy() {
+        return priceStrategyFactory.getStrategy(customerType);
+    }
+}
@@ -0,0 +1,106 @@
+package co.kr.timfresh.orderapi.upload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 한 개를 읽는 시간 (OrderExcelService 가 파일마다 두 번 읽는 것 중 한 번)
+ * <p>
+ * 같은 데이터를 형식별로 생성하여 행 수에 따른 파싱 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderFileParseBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    @Param({"XLSX", "CSV", "NDJSON"})
+    private String format;
+
+    private Path file;
+    private OrderRowReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (format) {
+            case "XLSX" -> {
+                file = Files.createTempFile("order-jmh-", ".xlsx");
+                writeXlsx(file);
+                reader = new XlsxOrderRowReader();
+            }
+            case "CSV" -> {
+                file = Files.createTempFile("order-jmh-", ".csv");
+                writeText(file, "Customer ID,Product ID,Quantity,Order Ref\n", "%d,%d,%d,%s\n");
+                reader = new CsvOrderRowReader();
+            }
+            case "NDJSON" -> {
+                file = Files.createTempFile("order-jmh-", ".ndjson");
+                writeText(file, "", "{\"customerId\":%d,\"productId\":%d,\"quantity\":%d,\"orderRef\":\"%s\"}\n");
+                reader = new NdjsonOrderRowReader(new ObjectMapper());
+            }
+            default -> throw new IllegalArgumentException(format);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        reader.read(file, blackhole::consume);
+    }
+
+    private void writeXlsx(Path path) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet("Orders");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Customer ID");
+            header.createCell(1).setCellValue("Product ID");
+            header.createCell(2).setCellValue("Quantity");
+            header.createCell(3).setCellValue("Order Ref");
+            for (int i = 1; i <= rowCount; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i % 1_000 + 1);
+                row.createCell(1).setCellValue(i % 500 + 1);
+                row.createCell(2).setCellValue(i % 5 + 1);
+                row.createCell(3).setCellValue("REF-" + i / 10);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    private void writeText(Path path, String header, String rowFormat) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(header);
+            for (int i = 1; i <= rowCount; i++) {
+                writer.write(String.format(rowFormat, i % 1_000 + 1, i % 500 + 1, i % 5 + 1, "REF-" + i / 10));
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package co.kr.timfresh.orderapi.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+
+/**
+ * 주문번호 생성 (단일 스레드 / 경합)
+ */
+@State(Scope.Benchmark)
+public class OrderNumberGeneratorBenchmark {
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator(0, Clock.systemUTC());
+
+    @Benchmark
+    public String generate() {
+        return generator.generateOrderNumber();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateContended() {
+        return generator.generateOrderNumber();
+    }
+}
@@ -0,0 +1,167 @@
+package co.kr.timfresh.orderapi.catalog;
+
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품(이름, 가격)과 고객 정보를 읽기 전용으로 보관하는 캐시
+ * <p>
+ * 최대 개수와 TTL 로 제거되며, 가격 변경 등은 커밋 후 해당 항목을 무효화한다.
+ * 무효화는 이 인스턴스에만 적용되므로 다른 인스턴스에서는 TTL 만큼 이전 값이 보일 수 있다.
+ * 재고는 캐시하지 않는다. (재고 차감 전략이 항상 DB 또는 장부에서 확인)
+ * 적중률 등 통계는 cache.gets / cache.evictions 지표(cache=catalog.products, catalog.customers)로도 노출한다.
+ * <p>
+ * AsyncCache 는 적재 전에 항목 자리(future)를 먼저 등록하므로, 적재 중에 무효화된 항목에는 적재한 값을 다시 넣지 않는다.
+ * (가격 변경 커밋 전에 시작한 적재가 무효화 뒤에 이전 가격을 넣어 TTL 동안 남는 일이 없음)
+ */
+@Component
+public class CatalogCache implements MeterBinder {
+
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+    private final AsyncCache<Long, ProductInfo> products;
+    private final AsyncCache<Long, CustomerInfo> customers;
+
+    public CatalogCache(ProductRepository productRepository,
+                        CustomerRepository customerRepository,
+                        @Value("${order.catalog.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${order.catalog.cache.ttl:10m}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.customerRepository = customerRepository;
+        this.products = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().buildAsync();
+        this.customers = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().buildAsync();
+    }
+
+    /**
+     * 상품 정보 (없는 상품은 캐시하지 않음)
+     */
+    public Optional<ProductInfo> getProduct(Long productId) {
+        return Optional.ofNullable(getProducts(List.of(productId)).get(productId));
+    }
+
+    /**
+     * 여러 상품 정보를 조회 (캐시에 없는 상품만 IN 쿼리 한 번으로 적재, 없는 상품은 결과에서 빠짐)
+     */
+    public Map<Long, ProductInfo> getProducts(Collection<Long> productIds) {
+        return getAll(products, productIds, ids -> toMap(productRepository.findInfosByIdIn(ids), ProductInfo::getId));
+    }
+
+    /**
+     * 고객 정보 (없는 고객은 캐시하지 않음)
+     */
+    public Optional<CustomerInfo> getCustomer(Long customerId) {
+        return Optional.ofNullable(getCustomers(List.of(customerId)).get(customerId));
+    }
+
+    /**
+     * 여러 고객 정보를 조회 (캐시에 없는 고객만 IN 쿼리 한 번으로 적재, 없는 고객은 결과에서 빠짐)
+     */
+    public Map<Long, CustomerInfo> getCustomers(Collection<Long> customerIds) {
+        return getAll(customers, customerIds, ids -> toMap(customerRepository.findInfosByIdIn(ids), CustomerInfo::getId));
+    }
+
+    /**
+     * 상품 정보 무효화 (트랜잭션 안이면 커밋 후, 아니면 즉시)
+     */
+    public void evictProduct(Long productId) {
+        afterCommit(() -> products.synchronous().invalidate(productId));
+    }
+
+    /**
+     * 고객 정보 무효화 (트랜잭션 안이면 커밋 후, 아니면 즉시)
+     */
+    public void evictCustomer(Long customerId) {
+        afterCommit(() -> customers.synchronous().invalidate(customerId));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, products.synchronous(), "catalog.products");
+        CaffeineCacheMetrics.monitor(registry, customers.synchronous(), "catalog.customers");
+    }
+
+    public void evictAll() {
+        products.synchronous().invalidateAll();
+        customers.synchronous().invalidateAll();
+    }
+
+    public CacheStats getProductStats() {
+        return products.synchronous().stats();
+    }
+
+    public CacheStats getCustomerStats() {
+        return customers.synchronous().stats();
+    }
+
+    public long getProductCacheSize() {
+        return products.synchronous().estimatedSize();
+    }
+
+    public long getCustomerCacheSize() {
+        return customers.synchronous().estimatedSize();
+    }
+
+    /**
+     * 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 캐시에 없는 항목만 한 번에 적재 (다른 요청이 적재 중인 항목은 그 결과를 기다림)
+     * <p>
+     * 적재 함수는 항목 자리를 등록한 뒤 맵의 락 밖에서 호출되므로 DB 조회 중에 가상 스레드가 캐리어에 고정되지 않는다.
+     * (Cache.get(key, loader) 는 맵의 락(synchronized)을 잡은 채 loader 를 실행함)
+     */
+    private static <V> Map<Long, V> getAll(AsyncCache<Long, V> cache, Collection<Long> ids, Function<List<Long>, Map<Long, V>> loader) {
+        try {
+            return cache.getAll(ids, (missingIds, executor) -> {
+                try {
+                    return CompletableFuture.completedFuture(loader.apply(List.copyOf(missingIds)));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <V> Map<Long, V> toMap(List<V> values, Function<V, Long> idGetter) {
+        return values.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+}
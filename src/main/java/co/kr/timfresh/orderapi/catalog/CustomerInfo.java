@@ -0,0 +1,23 @@
+package co.kr.timfresh.orderapi.catalog;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import lombok.Getter;
+
+/**
+ * 캐시에 보관하는 고객 정보
+ */
+@Getter
+public class CustomerInfo {
+
+    private final Long id;
+    private final String name;
+    private final String address;
+    private final CustomerType customerType;
+
+    public CustomerInfo(Long id, String name, String address, CustomerType customerType) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.customerType = customerType;
+    }
+}
@@ -0,0 +1,28 @@
+package co.kr.timfresh.orderapi.catalog;
+
+import co.kr.timfresh.orderapi.money.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 캐시에 보관하는 상품 정보 (재고 제외)
+ */
+@Getter
+public class ProductInfo {
+
+    private final Long id;
+    private final String name;
+    private final BigDecimal price;
+    // 가격 계산용 금액 (캐시에 적재할 때 한 번만 변환)
+    @JsonIgnore
+    private final Money unitPrice;
+
+    public ProductInfo(Long id, String name, BigDecimal price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.unitPrice = Money.of(price);
+    }
+}
@@ -0,0 +1,19 @@
+package co.kr.timfresh.orderapi.config;
+
+import co.kr.timfresh.orderapi.entity.PooledSequenceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    /**
+     * 시퀀스 ID 할당 크기를 Hibernate 설정으로 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer(@Value("${order.id.allocation-size:50}") int allocationSize) {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+    }
+}
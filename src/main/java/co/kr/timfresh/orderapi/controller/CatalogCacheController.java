@@ -0,0 +1,32 @@
+package co.kr.timfresh.orderapi.controller;
+
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import co.kr.timfresh.orderapi.dto.CatalogCacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/catalog-cache")
+public class CatalogCacheController {
+
+    private final CatalogCache catalogCache;
+
+    /**
+     * 상품/고객 캐시 적중률과 제거 횟수를 조회하는 API
+     */
+    @GetMapping("/stats")
+    public CatalogCacheStatsDto getStats() {
+        return new CatalogCacheStatsDto(catalogCache);
+    }
+
+    /**
+     * 캐시를 모두 비우는 API (DB 를 직접 수정한 경우 사용)
+     */
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void evictAll() {
+        catalogCache.evictAll();
+    }
+}
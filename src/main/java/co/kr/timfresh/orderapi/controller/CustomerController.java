@@ -0,0 +1,50 @@
+package co.kr.timfresh.orderapi.controller;
+
+import co.kr.timfresh.orderapi.dto.CustomerStatsDto;
+import co.kr.timfresh.orderapi.dto.OrderPageDto;
+import co.kr.timfresh.orderapi.service.OrderService;
+import co.kr.timfresh.orderapi.stats.CustomerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/customers")
+public class CustomerController {
+
+    private final OrderService orderService;
+    private final CustomerStatsService customerStatsService;
+
+    /**
+     * 고객의 주문 내역을 최신순으로 조회하는 API (커서 기반 페이지)
+     *
+     * @param customerId 고객 ID
+     * @param cursor     이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size       페이지 크기 (최대 100)
+     * @return 주문 목록과 다음 페이지 커서
+     */
+    @GetMapping("/{customerId}/orders")
+    public OrderPageDto getOrders(@PathVariable Long customerId,
+                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                  @RequestParam(value = "size", defaultValue = "20") int size) {
+        return orderService.getCustomerOrders(customerId, cursor, size);
+    }
+
+    /**
+     * 고객의 일별 주문 수, 구매 금액, 구매 수량을 조회하는 API (집계 테이블 사용)
+     *
+     * @param customerId 고객 ID
+     * @param from       시작일 (yyyy-MM-dd, 생략 시 종료일 29일 전)
+     * @param to         종료일 (yyyy-MM-dd, 생략 시 오늘)
+     * @return 기간 합계와 일별 집계
+     */
+    @GetMapping("/{customerId}/stats/daily")
+    public CustomerStatsDto getDailyStats(@PathVariable Long customerId,
+                                          @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                          @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return customerStatsService.getDailyStats(customerId, from, to);
+    }
+}
@@ -1,17 +1,40 @@
 package co.kr.timfresh.orderapi.controller;
 
+import co.kr.timfresh.orderapi.dto.OrderBatchResponseDto;
+import co.kr.timfresh.orderapi.dto.OrderImportJobDto;
 import co.kr.timfresh.orderapi.dto.OrderRequestDto;
 import co.kr.timfresh.orderapi.dto.OrderResponseDto;
 import co.kr.timfresh.orderapi.exception.FileEmptyException;
+import co.kr.timfresh.orderapi.exception.IdempotencyKeyConflictException;
+import co.kr.timfresh.orderapi.exception.ImportJobRejectedException;
+import co.kr.timfresh.orderapi.exception.InvalidExportRangeException;
+import co.kr.timfresh.orderapi.exception.InvalidOrderBatchException;
 import co.kr.timfresh.orderapi.exception.UnsupportedFileTypeException;
+import co.kr.timfresh.orderapi.export.ExportFormat;
+import co.kr.timfresh.orderapi.export.OrderExportFilter;
+import co.kr.timfresh.orderapi.service.IdempotentOrderResult;
+import co.kr.timfresh.orderapi.service.IdempotentOrderService;
+import co.kr.timfresh.orderapi.service.OrderBatchService;
 import co.kr.timfresh.orderapi.service.OrderExcelService;
+import co.kr.timfresh.orderapi.service.OrderExportService;
+import co.kr.timfresh.orderapi.service.OrderImportJobService;
 import co.kr.timfresh.orderapi.service.OrderService;
+import co.kr.timfresh.orderapi.service.OrderUploadResult;
+import co.kr.timfresh.orderapi.upload.OrderGrouping;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,34 +44,143 @@ public class OrderController {
 
     private static final List<String> ALLOWED_CONTENT_TYPES = List.of(
             "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", // .xlsx
-            "application/vnd.ms-excel" // .xls
+            "application/vnd.ms-excel", // .xls (일부 브라우저는 .csv 도 이 타입으로 보냄)
+            "text/csv", // .csv
+            "application/x-ndjson" // .ndjson
     );
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
+    private final OrderBatchService orderBatchService;
     private final OrderExcelService orderExcelService;
+    private final OrderImportJobService orderImportJobService;
+    private final OrderExportService orderExportService;
 
     /**
      * 주문을 생성하는 API
+     * <p>
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 주문을 다시 만들지 않고 처음 응답을 그대로 돌려준다.
      *
-     * @param requestDto 주문 요청 정보
-     * @return 생성된 주문의 응답 DTO
+     * @param idempotencyKey 재시도 시 중복 주문을 막기 위한 키 (선택)
+     * @param requestDto     주문 요청 정보
+     * @return 생성된 주문의 응답 DTO (재사용한 응답이면 Idempotent-Replayed: true 헤더 포함)
+     * @throws IdempotencyKeyConflictException 같은 키로 다른 요청이 들어왔거나 처리 중인 경우
      */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public OrderResponseDto createOrder(@Valid @RequestBody OrderRequestDto requestDto) {
-        return orderService.createOrder(requestDto);
+    public ResponseEntity<OrderResponseDto> createOrder(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                        @Valid @RequestBody OrderRequestDto requestDto) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderService.createOrder(requestDto));
+        }
+
+        IdempotentOrderResult result = idempotentOrderService.createOrder(idempotencyKey, requestDto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.isReplayed()))
+                .body(result.getResponse());
+    }
+
+    /**
+     * 여러 주문을 한 번에 생성하는 API (주문마다 별도 트랜잭션, 일부가 실패해도 나머지는 생성)
+     *
+     * @param requestDtos 주문 요청 목록
+     * @return 요청 순서대로의 주문별 결과 (생성된 주문 또는 실패 사유)
+     * @throws InvalidOrderBatchException 요청이 비어 있거나 최대 건수를 넘는 경우
+     */
+    @PostMapping("/batch")
+    public OrderBatchResponseDto createOrders(@RequestBody List<OrderRequestDto> requestDtos) {
+        return orderBatchService.createOrders(requestDtos);
+    }
+
+    /**
+     * 주문번호로 주문을 조회하는 API
+     *
+     * @param orderNumber 주문번호
+     * @return 주문 응답 DTO
+     */
+    @GetMapping("/{orderNumber}")
+    public OrderResponseDto getOrder(@PathVariable String orderNumber) {
+        return orderService.getOrder(orderNumber);
     }
 
     /**
-     * 엑셀 파일을 업로드하여 주문을 등록하는 API
+     * 주문을 파일로 내보내는 API (주문 항목 한 건이 한 행)
+     * <p>
+     * 파일을 만들어 두지 않고 조회 결과를 바로 응답으로 스트리밍한다.
      *
-     * @param file 업로드할 엑셀 파일
-     * @return 생성된 주문 목록의 응답 DTO 리스트
+     * @param from       시작 주문일 (포함, yyyy-MM-dd)
+     * @param to         종료 주문일 (포함, yyyy-MM-dd)
+     * @param customerId 고객 ID (생략 시 전체 고객)
+     * @param format     파일 형식 (XLSX, CSV)
+     * @return 파일 스트리밍 응답
+     * @throws InvalidExportRangeException 시작일이 종료일보다 늦을 경우
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                              @RequestParam(required = false) Long customerId,
+                                                              @RequestParam(defaultValue = "XLSX") ExportFormat format) {
+        // 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 조건 검증은 스트리밍 전에 함
+        OrderExportFilter filter = OrderExportFilter.of(from, to, customerId);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(filter.fileName(format), StandardCharsets.UTF_8)
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(out -> orderExportService.export(filter, format, out));
+    }
+
+    /**
+     * 엑셀 파일을 업로드하여 주문을 등록하는 API (CSV, NDJSON 파일도 같은 방식으로 처리)
+     * <p>
+     * 청크마다 커밋하므로 일부 행이 실패해도 나머지 주문은 생성된다. (일괄 주문 생성과 같이 200 으로 결과를 반환)
+     *
+     * @param file     업로드할 엑셀 파일
+     * @param grouping 행을 주문으로 묶는 방식 (ROW: 행마다 주문, CUSTOMER: 고객(+ 주문 참조번호)별로 하나의 주문)
+     * @return 생성된 주문과 실패한 행의 사유
      * @throws FileEmptyException 파일이 비어 있을 경우 예외 발생
      */
     @PostMapping("/upload")
-    @ResponseStatus(HttpStatus.CREATED)
-    public List<OrderResponseDto> uploadOrders(@RequestParam("file") MultipartFile file) {
+    public OrderUploadResult uploadOrders(@RequestParam("file") MultipartFile file,
+                                          @RequestParam(value = "grouping", defaultValue = "ROW") OrderGrouping grouping) {
+        validateUploadFile(file);
+
+        return orderExcelService.processExcelOrders(file, grouping);
+    }
+
+    /**
+     * 엑셀 파일을 업로드하여 주문을 비동기로 등록하는 API
+     *
+     * @param file     업로드할 엑셀 파일
+     * @param grouping 행을 주문으로 묶는 방식
+     * @return 등록된 작업의 상태 (작업 ID 로 진행 상황 조회)
+     * @throws ImportJobRejectedException 처리 대기열이 가득 찬 경우
+     */
+    @PostMapping("/upload/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public OrderImportJobDto uploadOrdersAsync(@RequestParam("file") MultipartFile file,
+                                               @RequestParam(value = "grouping", defaultValue = "ROW") OrderGrouping grouping) {
+        validateUploadFile(file);
+
+        return new OrderImportJobDto(orderImportJobService.submit(file, grouping));
+    }
+
+    /**
+     * 비동기 엑셀 주문 등록 작업의 진행 상황을 조회하는 API
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 (진행 행 수, 초당 처리 행 수, 완료 시 결과)
+     */
+    @GetMapping("/upload/{jobId}")
+    public OrderImportJobDto getUploadJob(@PathVariable String jobId) {
+        return new OrderImportJobDto(orderImportJobService.getJob(jobId));
+    }
+
+    private void validateUploadFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new FileEmptyException();
         }
@@ -57,8 +189,5 @@ public class OrderController {
         if (!ALLOWED_CONTENT_TYPES.contains(file.getContentType())) {
             throw new UnsupportedFileTypeException("지원하지 않는 파일 형식입니다.");
         }
-
-        return orderExcelService.processExcelOrders(file);
     }
 }
-
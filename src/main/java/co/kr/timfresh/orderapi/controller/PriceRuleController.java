@@ -0,0 +1,50 @@
+package co.kr.timfresh.orderapi.controller;
+
+import co.kr.timfresh.orderapi.dto.PriceRuleDto;
+import co.kr.timfresh.orderapi.dto.PriceRuleRequestDto;
+import co.kr.timfresh.orderapi.pricing.PriceRuleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/price-rules")
+public class PriceRuleController {
+
+    private final PriceRuleService priceRuleService;
+
+    /**
+     * 가격 규칙 목록을 조회하는 API
+     */
+    @GetMapping
+    public List<PriceRuleDto> getRules() {
+        return priceRuleService.getRules();
+    }
+
+    /**
+     * 가격 규칙을 등록하는 API (커밋 후 바로 주문 가격에 반영)
+     *
+     * @param requestDto 대상(상품, 고객 유형), 적용 최소 수량, 할인율
+     * @return 등록된 규칙
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public PriceRuleDto createRule(@Valid @RequestBody PriceRuleRequestDto requestDto) {
+        return priceRuleService.createRule(requestDto);
+    }
+
+    /**
+     * 가격 규칙을 삭제하는 API
+     *
+     * @param ruleId 규칙 ID
+     */
+    @DeleteMapping("/{ruleId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteRule(@PathVariable Long ruleId) {
+        priceRuleService.deleteRule(ruleId);
+    }
+}
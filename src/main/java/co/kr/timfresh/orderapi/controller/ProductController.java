@@ -0,0 +1,56 @@
+package co.kr.timfresh.orderapi.controller;
+
+import co.kr.timfresh.orderapi.catalog.ProductInfo;
+import co.kr.timfresh.orderapi.dto.ProductPriceRequestDto;
+import co.kr.timfresh.orderapi.dto.ProductStockDto;
+import co.kr.timfresh.orderapi.dto.StockBucketRequestDto;
+import co.kr.timfresh.orderapi.service.ProductService;
+import co.kr.timfresh.orderapi.stock.StockBucketService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/products")
+public class ProductController {
+
+    private final ProductService productService;
+    private final StockBucketService stockBucketService;
+
+    /**
+     * 상품 가격을 변경하는 API (캐시된 상품 정보도 무효화)
+     *
+     * @param productId  상품 ID
+     * @param requestDto 변경할 가격
+     * @return 변경된 상품 정보
+     */
+    @PutMapping("/{productId}/price")
+    public ProductInfo changePrice(@PathVariable Long productId, @Valid @RequestBody ProductPriceRequestDto requestDto) {
+        return productService.changePrice(productId, requestDto.getPrice());
+    }
+
+    /**
+     * 상품 재고를 조회하는 API (버킷을 쓰는 상품은 버킷 합계)
+     *
+     * @param productId 상품 ID
+     * @return 총 재고와 버킷별 재고
+     */
+    @GetMapping("/{productId}/stock")
+    public ProductStockDto getStock(@PathVariable Long productId) {
+        return stockBucketService.getStock(productId);
+    }
+
+    /**
+     * 상품 재고를 나눌 버킷 수를 변경하는 API (인기 상품에만 사용, 0 이면 해제)
+     *
+     * @param productId  상품 ID
+     * @param requestDto 버킷 수
+     * @return 변경된 재고 현황
+     */
+    @PutMapping("/{productId}/stock-buckets")
+    public ProductStockDto configureStockBuckets(@PathVariable Long productId,
+                                                 @Valid @RequestBody StockBucketRequestDto requestDto) {
+        return stockBucketService.configureBuckets(productId, requestDto.getBucketCount());
+    }
+}
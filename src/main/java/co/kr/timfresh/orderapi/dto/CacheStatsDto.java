@@ -0,0 +1,22 @@
+package co.kr.timfresh.orderapi.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+
+@Getter
+public class CacheStatsDto {
+
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+
+    public CacheStatsDto(long size, CacheStats stats) {
+        this.size = size;
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.hitRate = stats.hitRate();
+        this.evictionCount = stats.evictionCount();
+    }
+}
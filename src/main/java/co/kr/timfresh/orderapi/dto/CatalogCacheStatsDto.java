@@ -0,0 +1,16 @@
+package co.kr.timfresh.orderapi.dto;
+
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import lombok.Getter;
+
+@Getter
+public class CatalogCacheStatsDto {
+
+    private final CacheStatsDto products;
+    private final CacheStatsDto customers;
+
+    public CatalogCacheStatsDto(CatalogCache catalogCache) {
+        this.products = new CacheStatsDto(catalogCache.getProductCacheSize(), catalogCache.getProductStats());
+        this.customers = new CacheStatsDto(catalogCache.getCustomerCacheSize(), catalogCache.getCustomerStats());
+    }
+}
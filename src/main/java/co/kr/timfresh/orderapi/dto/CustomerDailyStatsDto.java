@@ -0,0 +1,22 @@
+package co.kr.timfresh.orderapi.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+public class CustomerDailyStatsDto {
+
+    private final LocalDate date;
+    private final long orderCount;
+    private final BigDecimal revenue; // 구매 금액 합계
+    private final long units;         // 구매 수량 합계
+
+    public CustomerDailyStatsDto(LocalDate date, long orderCount, BigDecimal revenue, long units) {
+        this.date = date;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.units = units;
+    }
+}
@@ -0,0 +1,32 @@
+package co.kr.timfresh.orderapi.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 고객의 기간별 주문 집계 (기간 합계와 주문이 있는 날의 일별 집계)
+ */
+@Getter
+public class CustomerStatsDto {
+
+    private final Long customerId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long orderCount;
+    private final BigDecimal revenue;
+    private final long units;
+    private final List<CustomerDailyStatsDto> days;
+
+    public CustomerStatsDto(Long customerId, LocalDate from, LocalDate to, List<CustomerDailyStatsDto> days) {
+        this.customerId = customerId;
+        this.from = from;
+        this.to = to;
+        this.orderCount = days.stream().mapToLong(CustomerDailyStatsDto::getOrderCount).sum();
+        this.revenue = days.stream().map(CustomerDailyStatsDto::getRevenue).reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add);
+        this.units = days.stream().mapToLong(CustomerDailyStatsDto::getUnits).sum();
+        this.days = days;
+    }
+}
@@ -0,0 +1,22 @@
+package co.kr.timfresh.orderapi.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 주문 처리 결과 (요청 순서와 같은 순서)
+ */
+@Getter
+public class OrderBatchResponseDto {
+
+    private final int createdCount;
+    private final int failedCount;
+    private final List<OrderBatchResultDto> results;
+
+    public OrderBatchResponseDto(List<OrderBatchResultDto> results) {
+        this.createdCount = (int) results.stream().filter(result -> result.getStatus() == OrderBatchResultDto.Status.CREATED).count();
+        this.failedCount = results.size() - createdCount;
+        this.results = results;
+    }
+}
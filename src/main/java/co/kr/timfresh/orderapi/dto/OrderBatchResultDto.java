@@ -0,0 +1,36 @@
+package co.kr.timfresh.orderapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 일괄 주문 요청 중 한 건의 처리 결과
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderBatchResultDto {
+
+    public enum Status {
+        CREATED, FAILED
+    }
+
+    private final int index; // 요청 배열에서의 위치 (0부터 시작)
+    private final Status status;
+    private final OrderResponseDto order; // 생성 성공 시에만 포함
+    private final String error;           // 실패 시에만 포함
+
+    private OrderBatchResultDto(int index, Status status, OrderResponseDto order, String error) {
+        this.index = index;
+        this.status = status;
+        this.order = order;
+        this.error = error;
+    }
+
+    public static OrderBatchResultDto created(int index, OrderResponseDto order) {
+        return new OrderBatchResultDto(index, Status.CREATED, order, null);
+    }
+
+    public static OrderBatchResultDto failed(int index, String error) {
+        return new OrderBatchResultDto(index, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,38 @@
+package co.kr.timfresh.orderapi.dto;
+
+import co.kr.timfresh.orderapi.service.OrderImportJob;
+import co.kr.timfresh.orderapi.service.OrderImportRowError;
+import co.kr.timfresh.orderapi.service.OrderImportResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderImportJobDto {
+
+    private final String jobId;
+    private final OrderImportJob.Status status;
+    private final int totalRows;
+    private final int processedRows;
+    private final double rowsPerSecond;
+    private final Integer createdOrderCount; // 완료 시에만 포함
+    private final Integer failedRowCount;    // 완료 시에만 포함
+    private final List<OrderImportRowError> errors; // 완료 시에만 포함 (행 번호, 실패 사유)
+    private final String errorMessage;       // 작업 자체가 실패한 경우에만 포함
+
+    public OrderImportJobDto(OrderImportJob job) {
+        OrderImportResult result = job.getResult();
+
+        this.jobId = job.getJobId();
+        this.status = job.getStatus();
+        this.totalRows = job.getTotalRows();
+        this.processedRows = job.getProcessedRows();
+        this.rowsPerSecond = Math.round(job.getRowsPerSecond() * 10) / 10.0;
+        this.createdOrderCount = result != null ? result.getCreatedOrderCount() : null;
+        this.failedRowCount = result != null ? result.getFailedRowCount() : null;
+        this.errors = result != null ? result.getErrors() : null;
+        this.errorMessage = job.getErrorMessage();
+    }
+}
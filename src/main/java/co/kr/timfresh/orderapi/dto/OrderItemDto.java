@@ -29,7 +29,7 @@ public class OrderItemDto {
     public OrderItemDto(OrderItem orderItem) {
         this.productId = orderItem.getProduct().getId();
         this.quantity = orderItem.getQuantity();
-        this.price = orderItem.getPrice();
+        this.price = orderItem.getPrice().toBigDecimal();
     }
 }
 
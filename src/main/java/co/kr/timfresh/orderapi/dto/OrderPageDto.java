@@ -0,0 +1,25 @@
+package co.kr.timfresh.orderapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 주문 목록 페이지
+ */
+@Getter
+public class OrderPageDto {
+
+    private final List<OrderResponseDto> orders;
+    private final boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor; // 다음 페이지 요청 시 cursor 로 전달
+
+    public OrderPageDto(List<OrderResponseDto> orders, String nextCursor) {
+        this.orders = orders;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+    }
+}
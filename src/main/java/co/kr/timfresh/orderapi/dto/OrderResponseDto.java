@@ -3,6 +3,7 @@ package co.kr.timfresh.orderapi.dto;
 import co.kr.timfresh.orderapi.entity.Order;
 import lombok.Getter;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,15 +13,29 @@ public class OrderResponseDto {
     private final String orderNumber;
     private final String customerName;
     private final String customerAddress;
+    private final BigDecimal totalAmount;
+    private final int itemCount; // 주문 수량 합계
     private final List<OrderItemDto> orderItems;
 
     public OrderResponseDto(Order order) {
         this.orderNumber = order.getOrderNumber();
         this.customerName = order.getCustomer().getName();
         this.customerAddress = order.getCustomer().getAddress();
+        this.totalAmount = order.getTotalAmount().toBigDecimal();
+        this.itemCount = order.getItemCount();
         this.orderItems = order.getOrderItems().stream()
                 .map(OrderItemDto::new)
                 .collect(Collectors.toList());
     }
+
+    public OrderResponseDto(String orderNumber, String customerName, String customerAddress,
+                            BigDecimal totalAmount, int itemCount, List<OrderItemDto> orderItems) {
+        this.orderNumber = orderNumber;
+        this.customerName = customerName;
+        this.customerAddress = customerAddress;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.orderItems = orderItems;
+    }
 }
 
@@ -0,0 +1,23 @@
+package co.kr.timfresh.orderapi.dto;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import lombok.Getter;
+
+@Getter
+public class PriceRuleDto {
+
+    private final Long id;
+    private final Long productId;
+    private final CustomerType customerType;
+    private final int minQuantity;
+    private final int discountRate;
+
+    public PriceRuleDto(PriceRule priceRule) {
+        this.id = priceRule.getId();
+        this.productId = priceRule.getProductId();
+        this.customerType = priceRule.getCustomerType();
+        this.minQuantity = priceRule.getMinQuantity();
+        this.discountRate = priceRule.getDiscountRate();
+    }
+}
@@ -0,0 +1,31 @@
+package co.kr.timfresh.orderapi.dto;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+
+@Getter
+public class PriceRuleRequestDto {
+
+    private Long productId; // 비우면 모든 상품
+
+    private CustomerType customerType; // 비우면 모든 고객 유형
+
+    @Min(value = 1, message = "적용 최소 수량은 1 이상이어야 합니다.")
+    private int minQuantity = 1;
+
+    @Min(value = 0, message = "할인율은 0 이상이어야 합니다.")
+    @Max(value = 10000, message = "할인율은 10000(100%) 이하여야 합니다.")
+    private int discountRate; // basis point (1000 = 10%)
+
+    protected PriceRuleRequestDto() {
+    }
+
+    public PriceRuleRequestDto(Long productId, CustomerType customerType, int minQuantity, int discountRate) {
+        this.productId = productId;
+        this.customerType = customerType;
+        this.minQuantity = minQuantity;
+        this.discountRate = discountRate;
+    }
+}
@@ -0,0 +1,22 @@
+package co.kr.timfresh.orderapi.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+public class ProductPriceRequestDto {
+
+    @NotNull(message = "가격은 필수 입력값입니다.")
+    @DecimalMin(value = "0", message = "가격은 0 이상이어야 합니다.")
+    private BigDecimal price;
+
+    protected ProductPriceRequestDto() {
+    }
+
+    public ProductPriceRequestDto(BigDecimal price) {
+        this.price = price;
+    }
+}
@@ -0,0 +1,24 @@
+package co.kr.timfresh.orderapi.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 재고 현황 (버킷을 쓰지 않으면 bucketStocks 는 비어 있음)
+ */
+@Getter
+public class ProductStockDto {
+
+    private final Long productId;
+    private final int totalStock;
+    private final int bucketCount;
+    private final List<Integer> bucketStocks;
+
+    public ProductStockDto(Long productId, int totalStock, List<Integer> bucketStocks) {
+        this.productId = productId;
+        this.totalStock = totalStock;
+        this.bucketCount = bucketStocks.size();
+        this.bucketStocks = List.copyOf(bucketStocks);
+    }
+}
@@ -0,0 +1,20 @@
+package co.kr.timfresh.orderapi.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+
+@Getter
+public class StockBucketRequestDto {
+
+    @Min(value = 0, message = "버킷 수는 0 이상이어야 합니다.")
+    @Max(value = 64, message = "버킷 수는 64 이하여야 합니다.")
+    private int bucketCount;
+
+    protected StockBucketRequestDto() {
+    }
+
+    public StockBucketRequestDto(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+}
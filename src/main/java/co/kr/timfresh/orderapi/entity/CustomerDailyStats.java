@@ -0,0 +1,53 @@
+package co.kr.timfresh.orderapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 고객 일별 주문 집계 (주문 수, 구매 금액, 구매 수량)
+ * <p>
+ * 주문 생성 시에는 주문에 반영 대기 표시만 하고, 플러셔가 모아서 누적한다. (CustomerDailyStatsFlusher 참고)
+ */
+@Entity
+@Table(name = "customer_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customer_daily_stats", columnNames = {"customer_id", "stat_date"}))
+@Getter
+public class CustomerDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false)
+    private long units;
+
+    protected CustomerDailyStats() {
+    }
+
+    public static CustomerDailyStats create(Long customerId, LocalDate statDate, long orderCount, BigDecimal revenue, long units) {
+        return new CustomerDailyStats(customerId, statDate, orderCount, revenue, units);
+    }
+
+    private CustomerDailyStats(Long customerId, LocalDate statDate, long orderCount, BigDecimal revenue, long units) {
+        this.customerId = customerId;
+        this.statDate = statDate;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.units = units;
+    }
+}
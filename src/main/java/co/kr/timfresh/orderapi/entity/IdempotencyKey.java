@@ -0,0 +1,69 @@
+package co.kr.timfresh.orderapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 요청의 Idempotency-Key 와 그 요청으로 생성된 주문
+ * <p>
+ * 주문과 같은 트랜잭션에서 저장되므로, 키가 남아 있으면 주문도 반드시 커밋된 상태다.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100, nullable = false)
+    @Getter
+    private String key;
+
+    // 같은 키로 다른 요청 본문이 들어왔는지 확인하기 위한 SHA-256 (hex)
+    @Column(name = "request_hash", length = 64, nullable = false)
+    @Getter
+    private String requestHash;
+
+    @Column(name = "order_number")
+    @Getter
+    private String orderNumber;
+
+    @Column(name = "created_at", nullable = false)
+    @Getter
+    private LocalDateTime createdAt;
+
+    // 키를 직접 할당하므로 save() 가 merge 대신 바로 INSERT 하도록 새 엔티티 여부를 보관 (중복 키는 PK 위반으로 감지)
+    @Transient
+    private boolean isNew = true;
+
+    protected IdempotencyKey() {
+
+    }
+
+    private IdempotencyKey(String key, String requestHash, LocalDateTime createdAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+    }
+
+    public static IdempotencyKey create(String key, String requestHash, LocalDateTime createdAt) {
+        return new IdempotencyKey(key, requestHash, createdAt);
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
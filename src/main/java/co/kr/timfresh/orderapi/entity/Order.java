@@ -1,18 +1,27 @@
 package co.kr.timfresh.orderapi.entity;
 
+import co.kr.timfresh.orderapi.money.Money;
+import co.kr.timfresh.orderapi.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
-@Table(name = "orders")
-public class Order {
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_order_number", columnList = "customer_id, order_number"),
+        @Index(name = "idx_orders_stats_pending", columnList = "stats_pending")
+})
+public class Order implements Persistable<String> {
 
     @Id
-    @Column(nullable = false)
+    @Column(name = "order_number", nullable = false)
     @Getter
     private String orderNumber;
 
@@ -21,10 +30,31 @@ public class Order {
     @Getter
     private Customer customer;
 
+    // 주문 항목 금액 합계 (고객별 구매 금액 조회 시 order_items 를 합산하지 않도록 저장)
+    @Column(name = "total_amount", nullable = false, precision = 38, scale = Money.SCALE)
+    @Convert(converter = MoneyConverter.class)
+    @Getter
+    private Money totalAmount = Money.ZERO;
+
+    // 주문 항목 수량 합계
+    @Column(name = "item_count", nullable = false)
+    @Getter
+    private int itemCount;
+
+    // 고객 일별 집계(customer_daily_stats)에 아직 반영되지 않은 주문 (플러셔가 반영 후 false 로 변경)
+    @Column(name = "stats_pending", nullable = false)
+    @Getter
+    private boolean statsPending = true;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100) // 주문 목록 조회 시 주문마다 항목을 따로 읽지 않고 IN 으로 묶어서 로딩
     @Getter
     private final List<OrderItem> orderItems = new ArrayList<>();
 
+    // 주문번호를 직접 할당하므로 save() 가 merge(SELECT 후 INSERT) 대신 persist 하도록 새 주문 여부를 보관
+    @Transient
+    private boolean isNew = true;
+
     protected Order() {
 
     }
@@ -38,9 +68,41 @@ public class Order {
         return new Order(orderNumber, customer);
     }
 
+    @Override
+    public String getId() {
+        return orderNumber;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 주문일 (주문번호 앞 8자리 yyyyMMdd)
+     */
+    public LocalDate getOrderDate() {
+        return orderDateOf(orderNumber);
+    }
+
+    public static LocalDate orderDateOf(String orderNumber) {
+        return LocalDate.parse(orderNumber.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 주문 항목 추가 (주문 금액/수량 합계도 함께 갱신)
+     */
     public void addOrderItem(OrderItem orderItem) {
         orderItem.assignOrder(this);
         orderItems.add(orderItem);
+        totalAmount = totalAmount.plus(orderItem.getPrice());
+        itemCount = Math.addExact(itemCount, orderItem.getQuantity());
     }
 }
 
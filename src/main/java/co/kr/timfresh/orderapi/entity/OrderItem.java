@@ -1,16 +1,24 @@
 package co.kr.timfresh.orderapi.entity;
 
+import co.kr.timfresh.orderapi.money.Money;
+import co.kr.timfresh.orderapi.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
-
-import java.math.BigDecimal;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order_id", columnList = "order_id"),
+        @Index(name = "idx_order_items_stock_pending", columnList = "stock_pending")
+})
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "order_items_seq")
+    @GenericGenerator(name = "order_items_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "order_items_seq"))
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,19 +34,25 @@ public class OrderItem {
     @Getter
     private int quantity;
 
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 38, scale = Money.SCALE)
+    @Convert(converter = MoneyConverter.class)
+    @Getter
+    private Money price;
+
+    // 재고가 아직 products 테이블에 반영되지 않은 항목 (LEDGER 모드에서 플러셔가 반영 후 false 로 변경)
+    @Column(name = "stock_pending", nullable = false)
     @Getter
-    private BigDecimal price;
+    private boolean stockPending;
 
     protected OrderItem() {
 
     }
 
-    public static OrderItem create(Product product, int quantity, BigDecimal price) {
+    public static OrderItem create(Product product, int quantity, Money price) {
         return new OrderItem(product, quantity, price);
     }
 
-    private OrderItem(Product product, int quantity, BigDecimal price) {
+    private OrderItem(Product product, int quantity, Money price) {
         this.product = product;
         this.quantity = quantity;
         this.price = price;
@@ -50,4 +64,8 @@ public class OrderItem {
         }
         this.order = order;
     }
+
+    public void markStockPending() {
+        this.stockPending = true;
+    }
 }
@@ -0,0 +1,29 @@
+package co.kr.timfresh.orderapi.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 할당 크기를 설정(order.id.allocation-size)으로 정하는 pooled 시퀀스 ID 생성기
+ * <p>
+ * IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate 가 INSERT 배치를 끄지만,
+ * 시퀀스는 할당 크기만큼 ID 를 미리 받아 두므로 여러 행을 한 번의 배치로 INSERT 할 수 있다.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "order.id.allocation-size";
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        int allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package co.kr.timfresh.orderapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 가격 할인 규칙 (상품 × 고객 유형 × 수량 구간)
+ * <p>
+ * 상품이나 고객 유형이 비어 있으면 전체에 적용되며, 더 구체적인 규칙이 우선한다. (PriceRuleTable 참고)
+ */
+@Entity
+@Table(name = "price_rules",
+        indexes = @Index(name = "idx_price_rules_product_id", columnList = "product_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_price_rules_tier", columnNames = {"product_key", "customer_type_key", "min_quantity"}))
+@Getter
+public class PriceRule {
+
+    // 유니크 제약에서 비어 있는 대상을 나타내는 값 (NULL 은 서로 다른 값으로 취급되어 중복을 막지 못함)
+    public static final long ALL_PRODUCTS_KEY = 0L;
+    public static final String ALL_CUSTOMER_TYPES_KEY = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // null 이면 모든 상품
+    @Column(name = "product_id")
+    private Long productId;
+
+    // null 이면 모든 고객 유형
+    @Enumerated(EnumType.STRING)
+    @Column(name = "customer_type", length = 20)
+    private CustomerType customerType;
+
+    // 중복 방지용 키 (productId, customerType 과 같고 비어 있으면 위의 값)
+    @Column(name = "product_key", nullable = false)
+    private long productKey;
+
+    @Column(name = "customer_type_key", nullable = false, length = 20)
+    private String customerTypeKey;
+
+    // 주문 항목 수량이 이 값 이상일 때 적용
+    @Column(name = "min_quantity", nullable = false)
+    private int minQuantity;
+
+    // 할인율 (basis point, 1000 = 10%)
+    @Column(name = "discount_rate", nullable = false)
+    private int discountRate;
+
+    protected PriceRule() {
+    }
+
+    public static PriceRule create(Long productId, CustomerType customerType, int minQuantity, int discountRate) {
+        return new PriceRule(productId, customerType, minQuantity, discountRate);
+    }
+
+    private PriceRule(Long productId, CustomerType customerType, int minQuantity, int discountRate) {
+        this.productId = productId;
+        this.customerType = customerType;
+        this.productKey = productId == null ? ALL_PRODUCTS_KEY : productId;
+        this.customerTypeKey = customerType == null ? ALL_CUSTOMER_TYPES_KEY : customerType.name();
+        this.minQuantity = minQuantity;
+        this.discountRate = discountRate;
+    }
+}
@@ -3,6 +3,9 @@ package co.kr.timfresh.orderapi.entity;
 import co.kr.timfresh.orderapi.exception.InsufficientStockException;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 
@@ -12,7 +15,9 @@ import java.math.BigDecimal;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "products_seq")
+    @GenericGenerator(name = "products_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "products_seq"))
     private Long id;
 
     @Column(nullable = false)
@@ -21,9 +26,17 @@ public class Product {
     @Column(nullable = false)
     private BigDecimal price;
 
+    // 재고를 버킷으로 나눈 상품은 0 (총 재고는 product_stock_buckets 의 합)
     @Column(nullable = false)
     private int stockQuantity;
 
+    // 재고 버킷 수 (0 이면 stockQuantity 하나로 관리)
+    @Column(nullable = false)
+    private int stockBucketCount;
+
+    @Version
+    private Long version;
+
     protected Product() {
     }
 
@@ -43,7 +56,20 @@ public class Product {
         }
         this.stockQuantity -= quantity;
     }
-}
 
+    public void changePrice(BigDecimal price) {
+        this.price = price;
+    }
 
+    /**
+     * 재고 버킷 구성 변경 (버킷을 쓰면 상품 행의 재고는 0, 쓰지 않으면 총 재고를 다시 상품 행으로 옮김)
+     */
+    public void changeStockBuckets(int stockBucketCount, int totalStock) {
+        this.stockBucketCount = stockBucketCount;
+        this.stockQuantity = stockBucketCount > 0 ? 0 : totalStock;
+    }
 
+    public boolean isStockBucketed() {
+        return stockBucketCount > 0;
+    }
+}
@@ -0,0 +1,41 @@
+package co.kr.timfresh.orderapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 인기 상품의 재고를 나눠 담는 버킷 (행 하나에 차감이 몰리지 않도록 분산)
+ */
+@Entity
+@Table(name = "product_stock_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_buckets", columnNames = {"product_id", "bucket_no"}))
+@Getter
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(nullable = false)
+    private int stockQuantity;
+
+    protected ProductStockBucket() {
+    }
+
+    public static ProductStockBucket create(Product product, int bucketNo, int stockQuantity) {
+        return new ProductStockBucket(product, bucketNo, stockQuantity);
+    }
+
+    private ProductStockBucket(Product product, int bucketNo, int stockQuantity) {
+        this.product = product;
+        this.bucketNo = bucketNo;
+        this.stockQuantity = stockQuantity;
+    }
+}
@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicatePriceRuleException extends BaseException {
+    public DuplicatePriceRuleException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyConflictException extends BaseException {
+    public IdempotencyKeyConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
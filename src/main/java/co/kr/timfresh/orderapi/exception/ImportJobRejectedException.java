@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ImportJobRejectedException extends BaseException {
+    public ImportJobRejectedException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
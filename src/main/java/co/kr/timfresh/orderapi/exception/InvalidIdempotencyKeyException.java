@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidIdempotencyKeyException extends BaseException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
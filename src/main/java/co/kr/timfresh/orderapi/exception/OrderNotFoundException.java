@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class OrderNotFoundException extends BaseException {
+    public OrderNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class StockBucketConfigurationException extends BaseException {
+    public StockBucketConfigurationException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,89 @@
+package co.kr.timfresh.orderapi.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV writer (행을 바로 출력 스트림으로 흘려보냄)
+ * <p>
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다.
+ * 고객명/상품명처럼 사용자가 입력한 값은 스프레드시트에서 수식으로 실행되지 않도록 보호한다.
+ */
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    private final Writer writer;
+
+    public CsvOrderExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            writer.write('\uFEFF');
+            writeLine(OrderExportRow.HEADERS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(OrderExportRow row) {
+        try {
+            writeLine(row.getOrderNumber(),
+                    String.valueOf(row.getCustomerId()),
+                    text(row.getCustomerName()),
+                    String.valueOf(row.getProductId()),
+                    text(row.getProductName()),
+                    String.valueOf(row.getQuantity()),
+                    row.getPrice().toPlainString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // 출력 스트림은 응답이 관리하므로 닫지 않음
+    }
+
+    private void writeLine(String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 수식으로 해석되는 문자(=, +, -, @, 탭, CR)로 시작하면 앞에 작은따옴표를 붙여 문자열로 표시되게 함 (CSV injection 방지)
+     */
+    private static String text(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return '\'' + value;
+        }
+        return value;
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈 (RFC 4180)
+     */
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
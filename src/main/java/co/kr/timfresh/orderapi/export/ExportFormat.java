@@ -0,0 +1,17 @@
+package co.kr.timfresh.orderapi.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,57 @@
+package co.kr.timfresh.orderapi.export;
+
+import co.kr.timfresh.orderapi.exception.InvalidExportRangeException;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 내보낼 주문 조건 (주문일 범위, 고객)
+ * <p>
+ * 주문번호가 주문일(yyyyMMdd)로 시작하므로 날짜 범위를 주문번호 범위로 바꿔 PK 인덱스로 조회한다.
+ */
+@Getter
+public class OrderExportFilter {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Long customerId;
+
+    private OrderExportFilter(LocalDate from, LocalDate to, Long customerId) {
+        this.from = from;
+        this.to = to;
+        this.customerId = customerId;
+    }
+
+    /**
+     * @param from       시작일 (포함)
+     * @param to         종료일 (포함)
+     * @param customerId 고객 ID (전체 고객이면 null)
+     * @throws InvalidExportRangeException 시작일이 종료일보다 늦을 경우
+     */
+    public static OrderExportFilter of(LocalDate from, LocalDate to, Long customerId) {
+        if (from.isAfter(to)) {
+            throw new InvalidExportRangeException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return new OrderExportFilter(from, to, customerId);
+    }
+
+    /**
+     * 조회할 주문번호 하한 (포함)
+     */
+    public String getOrderNumberFrom() {
+        return from.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 조회할 주문번호 상한 (미포함, 종료일 다음 날)
+     */
+    public String getOrderNumberTo() {
+        return to.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    public String fileName(ExportFormat format) {
+        return "orders-" + getOrderNumberFrom() + "-" + to.format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+    }
+}
@@ -0,0 +1,32 @@
+package co.kr.timfresh.orderapi.export;
+
+import co.kr.timfresh.orderapi.money.Money;
+import lombok.Getter;
+
+/**
+ * 내보내기 한 행 (주문 항목 단위)
+ */
+@Getter
+public class OrderExportRow {
+
+    static final String[] HEADERS = {"주문번호", "고객 ID", "고객명", "상품 ID", "상품명", "수량", "금액"};
+
+    private final String orderNumber;
+    private final Long customerId;
+    private final String customerName;
+    private final Long productId;
+    private final String productName;
+    private final int quantity;
+    private final Money price;
+
+    public OrderExportRow(String orderNumber, Long customerId, String customerName,
+                          Long productId, String productName, int quantity, Money price) {
+        this.orderNumber = orderNumber;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.price = price;
+    }
+}
@@ -0,0 +1,22 @@
+package co.kr.timfresh.orderapi.export;
+
+import java.io.Closeable;
+
+/**
+ * 내보내기 행을 순서대로 받아 출력 스트림에 쓰는 writer (내보내기 한 번마다 새로 생성)
+ */
+public interface OrderExportWriter extends Closeable {
+
+    void write(OrderExportRow row);
+
+    /**
+     * 남은 내용을 출력 스트림에 모두 씀 (모든 행을 쓴 뒤 한 번 호출)
+     */
+    void finish();
+
+    /**
+     * 임시 자원 정리 (출력 스트림은 닫지 않음)
+     */
+    @Override
+    void close();
+}
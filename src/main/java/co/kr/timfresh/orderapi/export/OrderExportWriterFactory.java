@@ -0,0 +1,16 @@
+package co.kr.timfresh.orderapi.export;
+
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+
+@Component
+public class OrderExportWriterFactory {
+
+    public OrderExportWriter create(ExportFormat format, OutputStream out) {
+        return switch (format) {
+            case XLSX -> new XlsxOrderExportWriter(out);
+            case CSV -> new CsvOrderExportWriter(out);
+        };
+    }
+}
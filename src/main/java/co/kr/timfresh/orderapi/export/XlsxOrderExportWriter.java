@@ -0,0 +1,80 @@
+package co.kr.timfresh.orderapi.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * SXSSF 기반 .xlsx writer
+ * <p>
+ * 최근 WINDOW_SIZE 행만 메모리에 두고 나머지는 압축된 임시 파일로 내보내므로 행 수와 무관하게 힙 사용량이 일정하다.
+ * 시트 최대 행 수를 넘으면 다음 시트에 이어서 쓴다.
+ */
+public class XlsxOrderExportWriter implements OrderExportWriter {
+
+    private static final int WINDOW_SIZE = 100;
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private Sheet sheet;
+    private int rowIndex;
+
+    public XlsxOrderExportWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        newSheet();
+    }
+
+    @Override
+    public void write(OrderExportRow row) {
+        if (rowIndex == MAX_ROWS) {
+            newSheet();
+        }
+
+        Row sheetRow = sheet.createRow(rowIndex++);
+        sheetRow.createCell(0).setCellValue(row.getOrderNumber());
+        sheetRow.createCell(1).setCellValue(row.getCustomerId());
+        sheetRow.createCell(2).setCellValue(row.getCustomerName());
+        sheetRow.createCell(3).setCellValue(row.getProductId());
+        sheetRow.createCell(4).setCellValue(row.getProductName());
+        sheetRow.createCell(5).setCellValue(row.getQuantity());
+        sheetRow.createCell(6).setCellValue(row.getPrice().doubleValue());
+    }
+
+    @Override
+    public void finish() {
+        try {
+            workbook.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // 임시 파일 삭제
+        workbook.dispose();
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void newSheet() {
+        int sheetNumber = workbook.getNumberOfSheets() + 1;
+        sheet = workbook.createSheet(sheetNumber == 1 ? "주문" : "주문 (" + sheetNumber + ")");
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < OrderExportRow.HEADERS.length; i++) {
+            header.createCell(i).setCellValue(OrderExportRow.HEADERS[i]);
+        }
+        rowIndex = 1;
+    }
+}
@@ -0,0 +1,194 @@
+package co.kr.timfresh.orderapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성/파일 등록 구간별 지표 (/actuator/prometheus 로 노출)
+ * <p>
+ * 타이머는 백분위 히스토그램을 함께 내보내므로 Prometheus 에서 histogram_quantile 로 p99 를 계산할 수 있다.
+ */
+@Component
+public class OrderMetrics {
+
+    /**
+     * 주문 생성 구간
+     */
+    public enum Phase {
+        CUSTOMER_LOOKUP, // 고객 조회 (캐시)
+        STOCK_DECREMENT, // 재고 차감 (락 대기 포함, 락을 잡는 SQL 문만은 order.stock.lock.wait)
+        PRICING,         // 상품 조회 (캐시) 및 가격 계산
+        PERSIST          // flush + 커밋 (트랜잭션당 한 번)
+    }
+
+    // 트랜잭션마다 커밋 시간을 한 번만 기록하기 위한 리소스 키
+    private static final Object PERSIST_SYNCHRONIZATION_KEY = new Object();
+    // 실패하면 주문을 하나씩 다시 실행하는 트랜잭션 표시 (다시 실행할 때 실패를 세므로 이 트랜잭션에서는 세지 않음)
+    private static final Object REPLAYED_ON_FAILURE_KEY = new Object();
+
+    private final MeterRegistry registry;
+    private final Timer createTimer;
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+    private final Timer lockWaitTimer;
+    private final Timer importParseTimer;
+    private final Counter importCreatedRows;
+    private final Counter importFailedRows;
+    private final DistributionSummary importRowsPerSecond;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.createTimer = Timer.builder("order.create")
+                .description("주문 생성 시작부터 커밋까지의 시간 (커밋된 주문)")
+                .publishPercentileHistogram()
+                .register(registry);
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("order.create.phase")
+                    .description("주문 생성 구간별 시간")
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        this.lockWaitTimer = Timer.builder("order.stock.lock.wait")
+                .description("상품 행/재고 버킷 락을 잡는 SQL 문(SELECT ... FOR UPDATE, 조건부 UPDATE)의 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.importParseTimer = Timer.builder("order.import.parse")
+                .description("주문 파일 전체를 읽고 고객/상품을 확인하는 시간")
+                .register(registry);
+        this.importCreatedRows = Counter.builder("order.import.rows")
+                .description("파일 등록으로 처리한 행 수")
+                .tag("result", "created")
+                .register(registry);
+        this.importFailedRows = Counter.builder("order.import.rows")
+                .description("파일 등록으로 처리한 행 수")
+                .tag("result", "failed")
+                .register(registry);
+        this.importRowsPerSecond = DistributionSummary.builder("order.import.rows.per.second")
+                .description("파일 등록 작업별 초당 처리 행 수")
+                .register(registry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 주문 생성 성공 (트랜잭션이 커밋된 뒤 기록, 롤백되면 기록하지 않음)
+     * <p>
+     * 파일 등록 청크처럼 한 트랜잭션에서 여러 주문을 만들면 각 주문의 시간은 트랜잭션 커밋까지 잰다.
+     */
+    public void orderCreated(Timer.Sample sample) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sample.stop(createTimer);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sample.stop(createTimer);
+            }
+        });
+    }
+
+    /**
+     * 주문 생성 실패 (예외 종류별: InsufficientStockException, ProductNotFoundException 등)
+     * <p>
+     * {@link #replayOnFailure()} 로 표시한 트랜잭션에서는 세지 않는다.
+     */
+    public void orderFailed(RuntimeException e) {
+        if (TransactionSynchronizationManager.hasResource(REPLAYED_ON_FAILURE_KEY)) {
+            return;
+        }
+        registry.counter("order.create.failures", "exception", e.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * 현재 트랜잭션이 실패하면 호출자가 주문을 하나씩 다시 실행한다고 표시 (파일 등록 청크)
+     * <p>
+     * 다시 실행할 때 성공/실패를 세므로, 이 트랜잭션 안의 실패는 세지 않는다. (성공은 커밋될 때만 기록되므로 중복되지 않음)
+     */
+    public void replayOnFailure() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLAYED_ON_FAILURE_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(REPLAYED_ON_FAILURE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLAYED_ON_FAILURE_KEY);
+            }
+        });
+    }
+
+    public <T> T time(Phase phase, Supplier<T> body) {
+        return phaseTimers.get(phase).record(body);
+    }
+
+    public void time(Phase phase, Runnable body) {
+        phaseTimers.get(phase).record(body);
+    }
+
+    /**
+     * 락을 잡는 SQL 문의 실행 시간 (SELECT ... FOR UPDATE, 재고 조건부 UPDATE)
+     */
+    public void recordLockWait(long nanos) {
+        lockWaitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 flush + 커밋 시간을 PERSIST 구간으로 기록 (청크 트랜잭션처럼 주문이 여러 개여도 한 번만 기록)
+     */
+    public void recordPersistOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PERSIST_SYNCHRONIZATION_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(PERSIST_SYNCHRONIZATION_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startedAt;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                startedAt = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PERSIST_SYNCHRONIZATION_KEY);
+                if (status == STATUS_COMMITTED && startedAt != 0) {
+                    phaseTimers.get(Phase.PERSIST).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    public <T> T timeImportParse(Supplier<T> body) {
+        return importParseTimer.record(body);
+    }
+
+    public void importRows(int createdRows, int failedRows) {
+        importCreatedRows.increment(createdRows);
+        importFailedRows.increment(failedRows);
+    }
+
+    public void importThroughput(int rows, long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            importRowsPerSecond.record(rows * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+}
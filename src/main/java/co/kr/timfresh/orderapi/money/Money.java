@@ -0,0 +1,107 @@
+package co.kr.timfresh.orderapi.money;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 최소 단위(소수점 둘째 자리)를 long 으로 담는 금액 (불변)
+ * <p>
+ * 가격 계산은 정수 연산으로 하고 반올림은 모두 HALF_UP 으로 정확하게 처리한다.
+ * BigDecimal 은 JSON/DB 경계에서만 변환한다. ({@link #of(BigDecimal)}, {@link #toBigDecimal()})
+ */
+@Getter
+@EqualsAndHashCode
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+    // 비율 계산 단위 (10000 = 100%)
+    private static final long BASIS_POINTS_PER_UNIT = 10_000;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * BigDecimal 금액을 변환 (소수점 셋째 자리 이하는 HALF_UP 반올림)
+     *
+     * @throws ArithmeticException long 범위를 넘는 금액
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinorUnits(amount.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact());
+    }
+
+    /**
+     * 수량만큼 곱한 금액 (반올림 없음)
+     *
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public Money times(int quantity) {
+        return ofMinorUnits(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * 비율(basis point, 9000 = 90%)을 적용한 금액 (최소 단위 미만은 HALF_UP 반올림)
+     *
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public Money applyRate(int basisPoints) {
+        long scaled = Math.multiplyExact(minorUnits, basisPoints);
+        long quotient = scaled / BASIS_POINTS_PER_UNIT;
+        long remainder = scaled % BASIS_POINTS_PER_UNIT;
+        if (Math.abs(remainder) * 2 >= BASIS_POINTS_PER_UNIT) {
+            quotient += Long.signum(scaled);
+        }
+        return ofMinorUnits(quotient);
+    }
+
+    public Money plus(Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public double doubleValue() {
+        return (double) minorUnits / MINOR_UNITS_PER_UNIT;
+    }
+
+    /**
+     * BigDecimal 을 만들지 않고 {@code toBigDecimal().toPlainString()} 과 같은 문자열로 변환 (예: 12900.50, -0.05)
+     */
+    public String toPlainString() {
+        long units = minorUnits / MINOR_UNITS_PER_UNIT;
+        long cents = Math.abs(minorUnits % MINOR_UNITS_PER_UNIT);
+        StringBuilder sb = new StringBuilder(24);
+        if (minorUnits < 0 && units == 0) {
+            sb.append('-');
+        }
+        sb.append(units).append('.');
+        if (cents < 10) {
+            sb.append('0');
+        }
+        return sb.append(cents).toString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+}
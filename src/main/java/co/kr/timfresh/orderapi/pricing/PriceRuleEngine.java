@@ -0,0 +1,97 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import co.kr.timfresh.orderapi.repository.PriceRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 컴파일된 가격 규칙 테이블 보관 (copy-on-write)
+ * <p>
+ * 규칙이 바뀌면 새 테이블을 따로 컴파일한 뒤 참조만 바꾸므로 주문 생성은 다시 읽는 동안에도 기다리지 않는다.
+ * 변경한 인스턴스는 커밋 후 바로, 다른 인스턴스는 order.pricing.reload-interval-ms 주기로 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class PriceRuleEngine {
+
+    private final PriceRuleRepository priceRuleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<PriceRuleTable> table = new AtomicReference<>(PriceRuleTable.EMPTY);
+    // 다시 읽기끼리만 순서를 맞춤 (늦게 읽은 규칙이 먼저 읽은 규칙으로 덮이지 않도록)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public PriceRuleEngine(PriceRuleRepository priceRuleRepository, PlatformTransactionManager transactionManager) {
+        this.priceRuleRepository = priceRuleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 현재 규칙 테이블 (주문 하나는 같은 테이블로 계산하도록 주문마다 한 번 읽음)
+     */
+    public PriceRuleTable current() {
+        return table.get();
+    }
+
+    /**
+     * 규칙을 다시 읽어 컴파일한 뒤 교체
+     *
+     * @return 교체된 테이블
+     */
+    public PriceRuleTable reload() {
+        reloadLock.lock();
+        try {
+            List<PriceRule> rules = transactionTemplate.execute(status -> priceRuleRepository.findAll(Sort.by("id")));
+            PriceRuleTable compiled = PriceRuleTable.compile(rules);
+            table.set(compiled);
+            return compiled;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 규칙 변경 트랜잭션이 커밋된 후 다시 읽음 (트랜잭션 밖이면 즉시)
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("가격 규칙 다시 읽기 실패 (다음 주기에 반영됨)", e);
+                }
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        log.info("가격 규칙 {}건 적재", reload().getRuleCount());
+    }
+
+    @Scheduled(initialDelayString = "${order.pricing.reload-interval-ms:60000}", fixedDelayString = "${order.pricing.reload-interval-ms:60000}")
+    public void refresh() {
+        reload();
+    }
+}
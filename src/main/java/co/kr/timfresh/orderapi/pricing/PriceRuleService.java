@@ -0,0 +1,80 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.dto.PriceRuleDto;
+import co.kr.timfresh.orderapi.dto.PriceRuleRequestDto;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import co.kr.timfresh.orderapi.exception.DuplicatePriceRuleException;
+import co.kr.timfresh.orderapi.exception.PriceRuleNotFoundException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.repository.PriceRuleRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 가격 규칙 등록/삭제 (커밋 후 규칙 테이블을 다시 컴파일)
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceRuleService {
+
+    private static final String DUPLICATE_MESSAGE = "같은 대상과 수량 구간의 가격 규칙이 이미 있습니다.";
+
+    private final PriceRuleRepository priceRuleRepository;
+    private final ProductRepository productRepository;
+    private final PriceRuleEngine priceRuleEngine;
+
+    @Transactional(readOnly = true)
+    public List<PriceRuleDto> getRules() {
+        return priceRuleRepository.findAll(Sort.by("id")).stream().map(PriceRuleDto::new).toList();
+    }
+
+    /**
+     * 가격 규칙 등록
+     *
+     * @param requestDto 대상(상품, 고객 유형), 적용 최소 수량, 할인율
+     * @return 등록된 규칙
+     * @throws ProductNotFoundException    상품이 없을 경우
+     * @throws DuplicatePriceRuleException 같은 대상과 수량 구간의 규칙이 이미 있을 경우
+     */
+    @Transactional
+    public PriceRuleDto createRule(PriceRuleRequestDto requestDto) {
+        if (requestDto.getProductId() != null && !productRepository.existsById(requestDto.getProductId())) {
+            throw new ProductNotFoundException("상품을 찾을 수 없습니다.");
+        }
+        if (priceRuleRepository.existsSameTier(requestDto.getProductId(), requestDto.getCustomerType(), requestDto.getMinQuantity())) {
+            throw new DuplicatePriceRuleException(DUPLICATE_MESSAGE);
+        }
+
+        PriceRule priceRule;
+        try {
+            priceRule = priceRuleRepository.saveAndFlush(PriceRule.create(requestDto.getProductId(), requestDto.getCustomerType(),
+                    requestDto.getMinQuantity(), requestDto.getDiscountRate()));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 직후 다른 요청이 같은 규칙을 먼저 등록함 (uk_price_rules_tier)
+            throw new DuplicatePriceRuleException(DUPLICATE_MESSAGE);
+        }
+        priceRuleEngine.reloadAfterCommit();
+
+        return new PriceRuleDto(priceRule);
+    }
+
+    /**
+     * 가격 규칙 삭제
+     *
+     * @throws PriceRuleNotFoundException 규칙이 없을 경우
+     */
+    @Transactional
+    public void deleteRule(Long ruleId) {
+        PriceRule priceRule = priceRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new PriceRuleNotFoundException("가격 규칙을 찾을 수 없습니다."));
+
+        priceRuleRepository.delete(priceRule);
+        priceRuleEngine.reloadAfterCommit();
+    }
+}
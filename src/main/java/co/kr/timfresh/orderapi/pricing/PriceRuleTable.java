@@ -0,0 +1,161 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import co.kr.timfresh.orderapi.money.Money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 가격 규칙을 조회 전용 구조로 컴파일한 테이블 (불변, 주문 처리 중 규칙 체인을 평가하지 않음)
+ * <p>
+ * 상품 ID → 고객 유형(ordinal) 배열 → 수량 구간 배열 순서로 찾고, 구간은 이진 탐색한다.
+ * 규칙이 없는 상품은 고객 유형별 공통 구간을 사용한다.
+ * <p>
+ * 같은 수량에 여러 규칙이 해당하면 더 구체적인 규칙이 우선한다.
+ * (상품 + 고객 유형 → 상품 → 고객 유형 → 전체, 각 단계에서는 수량 조건을 만족하는 가장 큰 구간)
+ */
+public final class PriceRuleTable {
+
+    // 할인 없음 (basis point, 10000 = 100%)
+    static final int FULL_RATE = 10_000;
+
+    private static final CustomerType[] CUSTOMER_TYPES = CustomerType.values();
+
+    public static final PriceRuleTable EMPTY = compile(List.of());
+
+    private final Map<Long, QuantityTiers[]> productTiers;
+    private final QuantityTiers[] commonTiers;
+    private final int ruleCount;
+
+    private PriceRuleTable(Map<Long, QuantityTiers[]> productTiers, QuantityTiers[] commonTiers, int ruleCount) {
+        this.productTiers = productTiers;
+        this.commonTiers = commonTiers;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 규칙 목록을 컴파일 (같은 대상/구간 규칙이 여러 개면 목록에서 나중 규칙 사용)
+     */
+    public static PriceRuleTable compile(List<PriceRule> rules) {
+        Map<RuleKey, NavigableMap<Integer, Integer>> tiersByKey = new HashMap<>();
+        Set<Long> productIds = new TreeSet<>();
+        for (PriceRule rule : rules) {
+            tiersByKey.computeIfAbsent(new RuleKey(rule.getProductId(), rule.getCustomerType()), key -> new TreeMap<>())
+                    .put(rule.getMinQuantity(), FULL_RATE - rule.getDiscountRate());
+            if (rule.getProductId() != null) {
+                productIds.add(rule.getProductId());
+            }
+        }
+
+        Map<Long, QuantityTiers[]> productTiers = new HashMap<>();
+        for (Long productId : productIds) {
+            productTiers.put(productId, compileByCustomerType(tiersByKey, productId));
+        }
+        return new PriceRuleTable(productTiers, compileByCustomerType(tiersByKey, null), rules.size());
+    }
+
+    /**
+     * 적용할 비율 (basis point, 할인이 없으면 10000)
+     */
+    public int rateOf(Long productId, CustomerType customerType, int quantity) {
+        QuantityTiers tiers = productTiers.getOrDefault(productId, commonTiers)[customerType.ordinal()];
+        return tiers == null ? FULL_RATE : tiers.rateOf(quantity);
+    }
+
+    /**
+     * 고객 유형 가격 전략으로 계산한 금액에 규칙 할인을 적용 (최소 단위 미만은 HALF_UP 반올림)
+     */
+    public Money apply(Long productId, CustomerType customerType, int quantity, Money price) {
+        int rate = rateOf(productId, customerType, quantity);
+        return rate == FULL_RATE ? price : price.applyRate(rate);
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    private static QuantityTiers[] compileByCustomerType(Map<RuleKey, NavigableMap<Integer, Integer>> tiersByKey, Long productId) {
+        QuantityTiers[] tiers = new QuantityTiers[CUSTOMER_TYPES.length];
+        for (CustomerType customerType : CUSTOMER_TYPES) {
+            List<NavigableMap<Integer, Integer>> levels = new ArrayList<>(4);
+            if (productId != null) {
+                addLevel(levels, tiersByKey.get(new RuleKey(productId, customerType)));
+                addLevel(levels, tiersByKey.get(new RuleKey(productId, null)));
+            }
+            addLevel(levels, tiersByKey.get(new RuleKey(null, customerType)));
+            addLevel(levels, tiersByKey.get(new RuleKey(null, null)));
+            tiers[customerType.ordinal()] = QuantityTiers.merge(levels);
+        }
+        return tiers;
+    }
+
+    private static void addLevel(List<NavigableMap<Integer, Integer>> levels, NavigableMap<Integer, Integer> level) {
+        if (level != null) {
+            levels.add(level);
+        }
+    }
+
+    private record RuleKey(Long productId, CustomerType customerType) {
+    }
+
+    /**
+     * 수량 구간 (구간 시작 수량 오름차순, 인접 구간은 비율이 다름)
+     */
+    private static final class QuantityTiers {
+
+        private final int[] minQuantities;
+        private final int[] rates;
+
+        private QuantityTiers(int[] minQuantities, int[] rates) {
+            this.minQuantities = minQuantities;
+            this.rates = rates;
+        }
+
+        /**
+         * 우선순위 순서의 단계별 구간을 하나로 합침 (모든 구간이 할인 없음이면 null)
+         */
+        static QuantityTiers merge(List<NavigableMap<Integer, Integer>> levels) {
+            TreeSet<Integer> boundaries = new TreeSet<>();
+            levels.forEach(level -> boundaries.addAll(level.keySet()));
+
+            int[] minQuantities = new int[boundaries.size()];
+            int[] rates = new int[boundaries.size()];
+            int size = 0;
+            int previousRate = FULL_RATE;
+            for (int boundary : boundaries) {
+                int rate = FULL_RATE;
+                for (NavigableMap<Integer, Integer> level : levels) {
+                    Map.Entry<Integer, Integer> tier = level.floorEntry(boundary);
+                    if (tier != null) {
+                        rate = tier.getValue();
+                        break;
+                    }
+                }
+                if (rate != previousRate) {
+                    minQuantities[size] = boundary;
+                    rates[size] = rate;
+                    size++;
+                    previousRate = rate;
+                }
+            }
+            return size == 0 ? null : new QuantityTiers(Arrays.copyOf(minQuantities, size), Arrays.copyOf(rates, size));
+        }
+
+        int rateOf(int quantity) {
+            int index = Arrays.binarySearch(minQuantities, quantity);
+            if (index < 0) {
+                index = -index - 2; // quantity 보다 작은 가장 큰 구간
+            }
+            return index < 0 ? FULL_RATE : rates[index];
+        }
+    }
+}
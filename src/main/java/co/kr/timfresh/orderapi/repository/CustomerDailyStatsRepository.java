@@ -0,0 +1,25 @@
+package co.kr.timfresh.orderapi.repository;
+
+import co.kr.timfresh.orderapi.entity.CustomerDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CustomerDailyStatsRepository extends JpaRepository<CustomerDailyStats, Long> {
+
+    List<CustomerDailyStats> findByCustomerIdAndStatDateBetweenOrderByStatDate(Long customerId, LocalDate from, LocalDate to);
+
+    /**
+     * 고객 일별 집계에 더함
+     *
+     * @return 갱신된 행 수 (0 이면 그날 집계 행이 아직 없음)
+     */
+    @Modifying
+    @Query("UPDATE CustomerDailyStats s SET s.orderCount = s.orderCount + :orderCount, s.revenue = s.revenue + :revenue, "
+            + "s.units = s.units + :units WHERE s.customerId = :customerId AND s.statDate = :statDate")
+    int addTo(Long customerId, LocalDate statDate, long orderCount, BigDecimal revenue, long units);
+}
@@ -1,7 +1,16 @@
 package co.kr.timfresh.orderapi.repository;
 
+import co.kr.timfresh.orderapi.catalog.CustomerInfo;
 import co.kr.timfresh.orderapi.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+
+    @Query("SELECT new co.kr.timfresh.orderapi.catalog.CustomerInfo(c.id, c.name, c.address, c.customerType) "
+            + "FROM Customer c WHERE c.id IN :ids")
+    List<CustomerInfo> findInfosByIdIn(Collection<Long> ids);
 }
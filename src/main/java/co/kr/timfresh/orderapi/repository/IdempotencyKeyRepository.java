@@ -0,0 +1,28 @@
+package co.kr.timfresh.orderapi.repository;
+
+import co.kr.timfresh.orderapi.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * 키에 생성된 주문번호 기록
+     * <p>
+     * 주문 생성 중 재고 차감 UPDATE 가 영속성 컨텍스트를 비우면 키 엔티티가 분리되어 변경 감지로는 반영되지 않으므로 직접 UPDATE 한다.
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.orderNumber = :orderNumber WHERE k.key = :key")
+    int complete(String key, String orderNumber);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.key = :key AND k.createdAt < :expiredBefore")
+    int deleteExpired(String key, LocalDateTime expiredBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :expiredBefore")
+    int deleteAllExpired(LocalDateTime expiredBefore);
+}
@@ -1,8 +1,51 @@
 package co.kr.timfresh.orderapi.repository;
 
 import co.kr.timfresh.orderapi.entity.OrderItem;
+import co.kr.timfresh.orderapi.export.OrderExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
-}
\ No newline at end of file
+    @Query("SELECT i.id AS id, i.product.id AS productId, i.quantity AS quantity FROM OrderItem i "
+            + "WHERE i.stockPending = true ORDER BY i.id")
+    List<PendingStockItem> findPendingStock(Pageable pageable);
+
+    /**
+     * 재고 반영 표시 (다른 플러셔가 먼저 반영한 항목은 제외되므로 반환값으로 확인)
+     */
+    @Modifying
+    @Query("UPDATE OrderItem i SET i.stockPending = false WHERE i.id IN :ids AND i.stockPending = true")
+    int markStockApplied(Collection<Long> ids);
+
+    long countByStockPendingTrue();
+
+    boolean existsByProductIdAndStockPendingTrue(Long productId);
+
+    /**
+     * 주문번호 범위의 주문 항목을 내보내기 행으로 조회 (트랜잭션 안에서 순서대로 소비하고 닫아야 함)
+     * <p>
+     * 엔티티 대신 DTO 로 받아 영속성 컨텍스트에 쌓이지 않고, fetch size 만큼씩 커서로 읽는다.
+     *
+     * @param from       주문번호 하한 (포함)
+     * @param to         주문번호 상한 (미포함)
+     * @param customerId 고객 ID (전체 고객이면 null)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new co.kr.timfresh.orderapi.export.OrderExportRow("
+            + "o.orderNumber, c.id, c.name, p.id, p.name, i.quantity, i.price) "
+            + "FROM OrderItem i JOIN i.order o JOIN o.customer c JOIN i.product p "
+            + "WHERE o.orderNumber >= :from AND o.orderNumber < :to "
+            + "AND (:customerId IS NULL OR c.id = :customerId) "
+            + "ORDER BY o.orderNumber, i.id")
+    Stream<OrderExportRow> streamExportRows(String from, String to, Long customerId);
+}
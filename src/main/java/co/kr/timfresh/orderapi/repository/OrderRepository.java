@@ -1,11 +1,61 @@
 package co.kr.timfresh.orderapi.repository;
 
 import co.kr.timfresh.orderapi.entity.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, String> {
 
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    /**
+     * 주문과 고객, 주문 항목을 한 번의 조인 쿼리로 조회 (응답 DTO 생성 시 지연 로딩 없음)
+     */
+    @EntityGraph(attributePaths = {"customer", "orderItems"})
+    @Query("SELECT o FROM Order o WHERE o.orderNumber = :orderNumber")
+    Optional<Order> findWithCustomerAndItemsByOrderNumber(String orderNumber);
+
+    /**
+     * 고객의 최신 주문부터 조회 (첫 페이지)
+     */
+    @Query("SELECT o FROM Order o JOIN FETCH o.customer WHERE o.customer.id = :customerId ORDER BY o.orderNumber DESC")
+    List<Order> findLatestByCustomerId(Long customerId, Limit limit);
+
+    /**
+     * 커서(이전 페이지 마지막 주문번호)보다 오래된 주문 조회 (customer_id, order_number 인덱스로 OFFSET 없이 이어서 읽음)
+     */
+    @Query("SELECT o FROM Order o JOIN FETCH o.customer "
+            + "WHERE o.customer.id = :customerId AND o.orderNumber < :cursor ORDER BY o.orderNumber DESC")
+    List<Order> findByCustomerIdBefore(Long customerId, String cursor, Limit limit);
+
+    @Query("SELECT o.orderNumber AS orderNumber, o.customer.id AS customerId, o.totalAmount AS totalAmount, o.itemCount AS itemCount "
+            + "FROM Order o WHERE o.statsPending = true ORDER BY o.orderNumber")
+    List<PendingOrderStats> findPendingStats(Pageable pageable);
+
+    /**
+     * 고객의 주문번호 범위에서 아직 집계에 반영되지 않은 주문 (customer_id, order_number 인덱스로 조회)
+     *
+     * @param from 주문번호 하한 (포함)
+     * @param to   주문번호 상한 (미포함)
+     */
+    @Query("SELECT o.orderNumber AS orderNumber, o.customer.id AS customerId, o.totalAmount AS totalAmount, o.itemCount AS itemCount "
+            + "FROM Order o WHERE o.customer.id = :customerId AND o.orderNumber >= :from AND o.orderNumber < :to AND o.statsPending = true")
+    List<PendingOrderStats> findPendingStatsByCustomerId(Long customerId, String from, String to);
+
+    /**
+     * 집계 반영 표시 (다른 플러셔가 먼저 반영한 주문은 제외되므로 반환값으로 확인)
+     *
+     * @return 반영 표시한 주문 수
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.statsPending = false WHERE o.orderNumber IN :orderNumbers AND o.statsPending = true")
+    int markStatsApplied(Collection<String> orderNumbers);
 }
@@ -0,0 +1,17 @@
+package co.kr.timfresh.orderapi.repository;
+
+import co.kr.timfresh.orderapi.money.Money;
+
+/**
+ * 고객 일별 집계에 아직 반영되지 않은 주문
+ */
+public interface PendingOrderStats {
+
+    String getOrderNumber();
+
+    Long getCustomerId();
+
+    Money getTotalAmount();
+
+    int getItemCount();
+}
@@ -0,0 +1,13 @@
+package co.kr.timfresh.orderapi.repository;
+
+/**
+ * 재고가 아직 DB 에 반영되지 않은 주문 항목
+ */
+public interface PendingStockItem {
+
+    Long getId();
+
+    Long getProductId();
+
+    int getQuantity();
+}
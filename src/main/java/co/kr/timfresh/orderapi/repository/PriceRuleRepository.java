@@ -0,0 +1,17 @@
+package co.kr.timfresh.orderapi.repository;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PriceRuleRepository extends JpaRepository<PriceRule, Long> {
+
+    /**
+     * 같은 대상(상품, 고객 유형)과 같은 수량 구간의 규칙이 있는지 확인 (비어 있는 대상끼리도 같은 것으로 봄)
+     */
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM PriceRule r WHERE r.minQuantity = :minQuantity "
+            + "AND ((:productId IS NULL AND r.productId IS NULL) OR r.productId = :productId) "
+            + "AND ((:customerType IS NULL AND r.customerType IS NULL) OR r.customerType = :customerType)")
+    boolean existsSameTier(Long productId, CustomerType customerType, int minQuantity);
+}
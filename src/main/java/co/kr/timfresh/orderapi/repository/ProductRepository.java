@@ -1,15 +1,76 @@
 package co.kr.timfresh.orderapi.repository;
 
+import co.kr.timfresh.orderapi.catalog.ProductInfo;
 import co.kr.timfresh.orderapi.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(Long id);
+
+    /**
+     * 여러 상품 행을 상품 ID 오름차순으로 잠금 (여러 주문을 한 트랜잭션에서 만들기 전에 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInWithLock(Collection<Long> ids);
+
+    @Query("SELECT new co.kr.timfresh.orderapi.catalog.ProductInfo(p.id, p.name, p.price) FROM Product p WHERE p.id IN :ids")
+    List<ProductInfo> findInfosByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(Long id);
+
+    /**
+     * 재고가 충분할 때만 차감하는 조건부 UPDATE (낙관적 락 사용 노드와 섞여도 충돌을 감지하도록 버전도 올림)
+     * <p>
+     * 영속성 컨텍스트에 이미 올라온 상품 엔티티가 이전 재고/버전으로 다시 쓰이지 않도록, 실행 전에 flush 하고 실행 후에 비운다.
+     *
+     * @return 갱신된 행 수 (0 이면 재고 부족 또는 상품 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(Long id, int quantity);
+
+    @Query("SELECT p.stockQuantity AS stockQuantity, p.version AS version FROM Product p WHERE p.id = :id")
+    Optional<ProductStockSnapshot> findStockSnapshotById(Long id);
+
+    /**
+     * 읽은 시점의 버전이 그대로일 때만 재고를 차감하고 버전을 올리는 UPDATE (낙관적 락)
+     * <p>
+     * 조건부 UPDATE 와 같은 이유로 실행 전에 flush 하고 실행 후에 영속성 컨텍스트를 비운다.
+     *
+     * @return 갱신된 행 수 (0 이면 다른 트랜잭션이 먼저 변경함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.version = :version")
+    int decreaseStockIfVersionMatches(Long id, int quantity, long version);
+
+    /**
+     * DB 재고에서 아직 반영되지 않은 주문 수량을 뺀 주문 가능 재고 (한 문장으로 읽어 플러시와 섞여도 일관된 값)
+     */
+    @Query("SELECT CAST(p.stockQuantity - COALESCE((SELECT SUM(i.quantity) FROM OrderItem i "
+            + "WHERE i.product = p AND i.stockPending = true), 0) AS Long) FROM Product p WHERE p.id = :id")
+    Optional<Long> findAvailableStockById(Long id);
+
+    /**
+     * 이미 메모리 장부에서 확보한 수량을 DB 재고에 반영하는 UPDATE (재고 조건 없음)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 WHERE p.id = :id")
+    int decreaseStockBy(Long id, int quantity);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stockBucketCount > 0")
+    List<Long> findStockBucketedIds(Collection<Long> ids);
 }
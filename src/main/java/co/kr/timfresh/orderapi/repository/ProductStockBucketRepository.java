@@ -0,0 +1,42 @@
+package co.kr.timfresh.orderapi.repository;
+
+import co.kr.timfresh.orderapi.entity.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    /**
+     * 버킷 하나에 재고가 충분할 때만 차감하는 조건부 UPDATE
+     * <p>
+     * 영속성 컨텍스트에 이미 올라온 버킷 엔티티가 이전 재고로 다시 쓰이지 않도록, 실행 전에 flush 하고 실행 후에 비운다.
+     *
+     * @return 갱신된 행 수 (0 이면 버킷 재고 부족)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.stockQuantity = b.stockQuantity - :quantity "
+            + "WHERE b.product.id = :productId AND b.bucketNo = :bucketNo AND b.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(Long productId, int bucketNo, int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.product.id = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductIdWithLock(Long productId);
+
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.product.id = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductId(Long productId);
+
+    /**
+     * 버킷 번호 순서의 버킷 재고 (엔티티를 거치지 않고 DB 값을 읽음)
+     */
+    @Query("SELECT b.stockQuantity FROM ProductStockBucket b WHERE b.product.id = :productId ORDER BY b.bucketNo")
+    List<Integer> findStockQuantitiesByProductId(Long productId);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockBucket b WHERE b.product.id = :productId")
+    int deleteAllByProductId(Long productId);
+}
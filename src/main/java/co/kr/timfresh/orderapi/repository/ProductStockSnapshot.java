@@ -0,0 +1,11 @@
+package co.kr.timfresh.orderapi.repository;
+
+/**
+ * 상품의 현재 재고와 버전 (낙관적 락 재고 차감용 조회 결과)
+ */
+public interface ProductStockSnapshot {
+
+    int getStockQuantity();
+
+    long getVersion();
+}
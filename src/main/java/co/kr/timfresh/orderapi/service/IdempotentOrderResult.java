@@ -0,0 +1,19 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import lombok.Getter;
+
+/**
+ * Idempotency-Key 주문 생성 결과 (replayed 면 이전 요청의 응답을 그대로 돌려준 것)
+ */
+@Getter
+public class IdempotentOrderResult {
+
+    private final OrderResponseDto response;
+    private final boolean replayed;
+
+    public IdempotentOrderResult(OrderResponseDto response, boolean replayed) {
+        this.response = response;
+        this.replayed = replayed;
+    }
+}
@@ -0,0 +1,224 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.entity.IdempotencyKey;
+import co.kr.timfresh.orderapi.exception.IdempotencyKeyConflictException;
+import co.kr.timfresh.orderapi.exception.InvalidIdempotencyKeyException;
+import co.kr.timfresh.orderapi.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 로 주문 생성을 한 번만 실행하는 서비스 클래스
+ * <p>
+ * 완료된 키는 메모리 캐시(최대 개수, TTL)와 idempotency_keys 테이블에 남긴다.
+ * 테이블에는 주문과 같은 트랜잭션으로 키를 먼저 INSERT 하므로, 다른 인스턴스의 중복 요청은 상품 락을 잡기 전에 PK 위반으로 걸러진다.
+ * 같은 인스턴스에서 동시에 들어온 중복 요청은 처리 중인 요청의 결과를 기다려 그대로 돌려준다.
+ */
+@Slf4j
+@Service
+public class IdempotentOrderService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate orderTransaction;
+    private final Cache<String, StoredOrder> completed;
+    private final ConcurrentMap<String, CompletableFuture<StoredOrder>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    public IdempotentOrderService(OrderService orderService,
+                                  IdempotencyKeyRepository idempotencyKeyRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${order.idempotency.maximum-size:100000}") long maximumSize,
+                                  @Value("${order.idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${order.idempotency.wait-timeout:30s}") Duration waitTimeout) {
+        this.orderService = orderService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.orderTransaction = new TransactionTemplate(transactionManager);
+        this.completed = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build();
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * 키로 주문을 한 번만 생성 (TTL 안의 재요청은 저장된 응답을 돌려주고 재고/상품 락을 건드리지 않음)
+     *
+     * @param key        Idempotency-Key 헤더 값
+     * @param requestDto 주문 요청 정보
+     * @return 주문 응답과 재사용 여부
+     * @throws InvalidIdempotencyKeyException  키가 비어 있거나 너무 긴 경우
+     * @throws IdempotencyKeyConflictException 같은 키로 다른 요청이 들어왔거나, 처리 중인 요청이 대기 시간 안에 끝나지 않은 경우
+     */
+    public IdempotentOrderResult createOrder(String key, OrderRequestDto requestDto) {
+        validateKey(key);
+        String requestHash = hash(requestDto);
+
+        StoredOrder stored = completed.getIfPresent(key);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+
+        CompletableFuture<StoredOrder> future = new CompletableFuture<>();
+        CompletableFuture<StoredOrder> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return replay(await(running), requestHash);
+        }
+
+        try {
+            // 캐시 확인 직후 다른 요청이 끝났거나, 재시작 전(또는 다른 인스턴스)에 처리된 키
+            stored = completed.getIfPresent(key);
+            if (stored == null) {
+                stored = findStored(key);
+            }
+            if (stored != null) {
+                completed.put(key, stored);
+                future.complete(stored);
+                return replay(stored, requestHash);
+            }
+
+            try {
+                stored = execute(key, requestHash, requestDto);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 키로 먼저 커밋함 (이쪽 주문/재고 차감은 롤백됨)
+                stored = findStored(key);
+                if (stored == null) {
+                    throw e;
+                }
+                completed.put(key, stored);
+                future.complete(stored);
+                return replay(stored, requestHash);
+            }
+
+            completed.put(key, stored);
+            future.complete(stored);
+            return new IdempotentOrderResult(stored.response(), false);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않음 (대기 중인 중복 요청에는 같은 예외를 전달, 이후 재요청은 다시 실행)
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 만료된 키 삭제 (주문은 그대로 유지)
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = idempotencyKeyRepository.deleteAllExpired(expiredBefore());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 메모리 캐시 비우기 (테이블에 남은 키는 다음 요청 시 다시 읽음)
+     */
+    void evictAll() {
+        completed.invalidateAll();
+    }
+
+    /**
+     * 키 INSERT 와 주문 생성을 한 트랜잭션에서 실행
+     */
+    private StoredOrder execute(String key, String requestHash, OrderRequestDto requestDto) {
+        return orderTransaction.execute(status -> {
+            idempotencyKeyRepository.deleteExpired(key, expiredBefore());
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKey.create(key, requestHash, LocalDateTime.now()));
+
+            OrderResponseDto response = orderService.createOrder(requestDto);
+            idempotencyKeyRepository.complete(key, response.getOrderNumber());
+            return new StoredOrder(requestHash, response);
+        });
+    }
+
+    /**
+     * 테이블에 저장된 키의 주문을 조회 (없거나 만료되었으면 null)
+     */
+    private StoredOrder findStored(String key) {
+        return idempotencyKeyRepository.findById(key)
+                .filter(idempotencyKey -> idempotencyKey.getOrderNumber() != null)
+                .filter(idempotencyKey -> !idempotencyKey.getCreatedAt().isBefore(expiredBefore()))
+                .map(idempotencyKey -> new StoredOrder(idempotencyKey.getRequestHash(), orderService.getOrder(idempotencyKey.getOrderNumber())))
+                .orElse(null);
+    }
+
+    private IdempotentOrderResult replay(StoredOrder stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyConflictException("이미 다른 주문 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        return new IdempotentOrderResult(stored.response(), true);
+    }
+
+    private StoredOrder await(CompletableFuture<StoredOrder> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyConflictException("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency-Key 는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    /**
+     * 요청 본문의 SHA-256 (같은 키로 다른 주문을 요청했는지 확인용)
+     */
+    private String hash(OrderRequestDto requestDto) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(requestDto)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private LocalDateTime expiredBefore() {
+        return LocalDateTime.now().minus(ttl);
+    }
+
+    private record StoredOrder(String requestHash, OrderResponseDto response) {
+    }
+}
@@ -0,0 +1,26 @@
+package co.kr.timfresh.orderapi.service;
+
+/**
+ * 파일 주문 등록 진행 상황을 전달받는 리스너
+ */
+public interface ImportProgressListener {
+
+    ImportProgressListener NONE = new ImportProgressListener() {
+    };
+
+    /**
+     * 검증이 끝나고 주문 생성을 시작할 때 호출
+     *
+     * @param totalRows 파일의 전체 데이터 행 수
+     */
+    default void started(int totalRows) {
+    }
+
+    /**
+     * 주문이 생성될 때마다 호출
+     *
+     * @param rows 이번에 처리된 행 수
+     */
+    default void processed(int rows) {
+    }
+}
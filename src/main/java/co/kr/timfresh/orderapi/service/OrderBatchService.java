@@ -0,0 +1,144 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderBatchResponseDto;
+import co.kr.timfresh.orderapi.dto.OrderBatchResultDto;
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.exception.BaseException;
+import co.kr.timfresh.orderapi.exception.InvalidOrderBatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 주문을 한 요청으로 처리하는 서비스 클래스
+ */
+@Slf4j
+@Service
+public class OrderBatchService {
+
+    private final OrderService orderService;
+    private final OrderReferenceResolver orderReferenceResolver;
+    private final Validator validator;
+    private final TransactionTemplate orderTransaction;
+    private final int maxBatchSize;
+
+    public OrderBatchService(OrderService orderService,
+                             OrderReferenceResolver orderReferenceResolver,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.batch.max-size:500}") int maxBatchSize) {
+        this.orderService = orderService;
+        this.orderReferenceResolver = orderReferenceResolver;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+
+        this.orderTransaction = new TransactionTemplate(transactionManager);
+        this.orderTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 주문 요청 목록을 순서대로 처리 (주문마다 별도 트랜잭션, 실패한 주문만 오류로 보고)
+     * <p>
+     * 먼저 전체 요청을 검증하고 고객/상품을 한 번에 조회(카탈로그 캐시 적재)한 뒤,
+     * 통과한 주문만 {@link OrderService#createOrder(OrderRequestDto, co.kr.timfresh.orderapi.catalog.CustomerInfo)} 로 생성한다.
+     * 재고 차감과 가격 계산은 단건 주문과 같다.
+     *
+     * @param requestDtos 주문 요청 목록
+     * @return 요청 순서대로의 주문별 결과
+     * @throws InvalidOrderBatchException 요청이 비어 있거나 최대 건수를 넘는 경우
+     */
+    public OrderBatchResponseDto createOrders(List<OrderRequestDto> requestDtos) {
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new InvalidOrderBatchException("주문 요청 목록이 비어 있습니다.");
+        }
+        if (requestDtos.size() > maxBatchSize) {
+            throw new InvalidOrderBatchException("한 번에 요청할 수 있는 주문은 최대 " + maxBatchSize + "건입니다.");
+        }
+
+        OrderBatchResultDto[] results = new OrderBatchResultDto[requestDtos.size()];
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            String violation = validate(requestDtos.get(i));
+            if (violation != null) {
+                results[i] = OrderBatchResultDto.failed(i, violation);
+                continue;
+            }
+            customerIds.add(requestDtos.get(i).getCustomerId());
+            requestDtos.get(i).getOrderItems().forEach(itemDto -> productIds.add(itemDto.getProductId()));
+        }
+
+        OrderReferences references = orderReferenceResolver.resolve(customerIds, productIds);
+        for (int i = 0; i < requestDtos.size(); i++) {
+            if (results[i] == null) {
+                results[i] = createOrder(i, requestDtos.get(i), references);
+            }
+        }
+
+        return new OrderBatchResponseDto(List.of(results));
+    }
+
+    private OrderBatchResultDto createOrder(int index, OrderRequestDto requestDto, OrderReferences references) {
+        String missingReference = findMissingReference(requestDto, references);
+        if (missingReference != null) {
+            return OrderBatchResultDto.failed(index, missingReference);
+        }
+
+        try {
+            OrderResponseDto responseDto = orderTransaction.execute(status ->
+                    orderService.createOrder(requestDto, references.getCustomer(requestDto.getCustomerId())));
+            return OrderBatchResultDto.created(index, responseDto);
+        } catch (BaseException e) {
+            return OrderBatchResultDto.failed(index, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("일괄 주문 처리 실패 (index: {})", index, e);
+            return OrderBatchResultDto.failed(index, "서버 내부 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 단건 주문 API 의 @Valid 와 같은 제약 조건 검사 (위반 메시지를 모아 반환, 없으면 null)
+     */
+    private String validate(OrderRequestDto requestDto) {
+        if (requestDto == null) {
+            return "주문 요청이 비어 있습니다.";
+        }
+        if (requestDto.getOrderItems() != null && requestDto.getOrderItems().contains(null)) {
+            return "주문 항목이 비어 있습니다.";
+        }
+
+        Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        List<String> messages = new ArrayList<>(violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.toSet()));
+        Collections.sort(messages);
+        return String.join(", ", messages);
+    }
+
+    private String findMissingReference(OrderRequestDto requestDto, OrderReferences references) {
+        if (references.getMissingCustomerIds().contains(requestDto.getCustomerId())) {
+            return "고객이 존재하지 않습니다. (고객 ID: " + requestDto.getCustomerId() + ")";
+        }
+        for (OrderItemDto itemDto : requestDto.getOrderItems()) {
+            if (!references.containsProduct(itemDto.getProductId())) {
+                return "상품이 존재하지 않습니다. (상품 ID: " + itemDto.getProductId() + ")";
+            }
+        }
+        return null;
+    }
+}
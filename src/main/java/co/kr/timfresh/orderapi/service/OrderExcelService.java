@@ -4,100 +4,292 @@ package co.kr.timfresh.orderapi.service;
 import co.kr.timfresh.orderapi.dto.OrderItemDto;
 import co.kr.timfresh.orderapi.dto.OrderRequestDto;
 import co.kr.timfresh.orderapi.dto.OrderResponseDto;
-import co.kr.timfresh.orderapi.exception.CustomerNotFoundException;
+import co.kr.timfresh.orderapi.exception.BaseException;
 import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
-import co.kr.timfresh.orderapi.repository.CustomerRepository;
-import co.kr.timfresh.orderapi.repository.ProductRepository;
-import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import co.kr.timfresh.orderapi.metrics.OrderMetrics;
+import co.kr.timfresh.orderapi.upload.OrderGrouping;
+import co.kr.timfresh.orderapi.upload.OrderRowReader;
+import co.kr.timfresh.orderapi.upload.OrderRowReaderFactory;
+import co.kr.timfresh.orderapi.util.TempFileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * 엑셀을 통해 주문을 처리하는 서비스 클래스
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrderExcelService {
 
+    // 결과에 담는 행 오류 최대 개수 (실패 행 수는 전부 집계)
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
     private final OrderService orderService;
-    private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final OrderReferenceResolver orderReferenceResolver;
+    private final OrderRowReaderFactory orderRowReaderFactory;
+    private final OrderMetrics orderMetrics;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public OrderExcelService(OrderService orderService,
+                             OrderReferenceResolver orderReferenceResolver,
+                             OrderRowReaderFactory orderRowReaderFactory,
+                             OrderMetrics orderMetrics,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${order.import.chunk-size:500}") int chunkSize) {
+        this.orderService = orderService;
+        this.orderReferenceResolver = orderReferenceResolver;
+        this.orderRowReaderFactory = orderRowReaderFactory;
+        this.orderMetrics = orderMetrics;
+        this.chunkSize = chunkSize;
+
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
-     * 엑셀 파일을 통해 주문을 처리
+     * 엑셀 파일을 통해 주문을 처리 (행마다 단건 주문 생성)
      *
      * @param file 업로드된 엑셀 파일
-     * @return 생성된 주문 응답 DTO 리스트
+     * @return 등록 결과 (생성된 주문과 행 단위 오류)
      */
-    @Transactional
-    public List<OrderResponseDto> processExcelOrders(MultipartFile file) {
-        List<OrderRequestDto> orderRequestDtoList = parseExcelFile(file);
-        List<OrderResponseDto> orderResponseDtoList = new ArrayList<>();
+    public OrderUploadResult processExcelOrders(MultipartFile file) {
+        return processExcelOrders(file, OrderGrouping.ROW);
+    }
 
-        for (OrderRequestDto requestDto : orderRequestDtoList) {
-            orderResponseDtoList.add(orderService.createOrder(requestDto));
+    /**
+     * 엑셀 파일을 통해 주문을 처리 (비동기 등록과 같이 chunk-size 행마다 커밋하고, 실패한 행만 오류로 보고)
+     * <p>
+     * 1차로 파일을 읽어 고객/상품 ID 를 모아 한 번에 조회한 뒤, 2차로 다시 스트리밍하며 주문을 생성하므로 워크북 전체를 메모리에 올리지 않는다.
+     * 상품 락은 청크의 상품만 청크가 커밋될 때까지 잡으므로, 같은 상품의 다른 주문은 파일 전체가 끝날 때까지 기다리지 않는다.
+     * {@link OrderGrouping#CUSTOMER} 는 행을 고객(+ 주문 참조번호)별로 모아야 하므로 주문 요청만큼은 메모리에 유지한다.
+     *
+     * @param file     업로드된 엑셀 파일
+     * @param grouping 행을 주문으로 묶는 방식
+     * @return 등록 결과 (생성된 주문과 행 단위 오류)
+     * @throws ExcelProcessingException 파일 형식이 잘못되었거나 처리 중 오류 발생 시
+     */
+    public OrderUploadResult processExcelOrders(MultipartFile file, OrderGrouping grouping) {
+        Path tempFile = TempFileUtils.store(file);
+        try {
+            List<OrderResponseDto> orders = new ArrayList<>();
+            OrderImportResult result = importOrders(tempFile, grouping, ImportProgressListener.NONE, orders::add);
+            return new OrderUploadResult(result, orders);
+        } finally {
+            TempFileUtils.deleteQuietly(tempFile);
         }
-
-        return orderResponseDtoList;
     }
 
     /**
-     * 엑셀 파일을 파싱하여 주문 요청 DTO 리스트를 생성
+     * 디스크에 저장된 파일로 주문을 등록 (비동기 작업용)
+     * <p>
+     * chunk-size 행마다 별도 트랜잭션으로 커밋하여 상품 락을 오래 잡지 않는다. 청크마다 청크의 상품 락을 상품 ID 순서로 먼저 잡는다.
+     * 청크가 실패하면 해당 청크의 주문을 하나씩 다시 실행해 실패한 행만 오류 목록에 남기고 나머지는 계속 진행한다.
+     * 존재하지 않는 고객/상품을 참조하는 행도 작업을 중단하지 않고 오류로 보고한다.
      *
-     * @param file 업로드된 엑셀 파일
-     * @return 주문 요청 DTO 리스트
-     * @throws ExcelProcessingException 파일 처리 중 오류 발생 시
+     * @param file     주문 파일
+     * @param grouping 행을 주문으로 묶는 방식
+     * @param listener 진행 상황 리스너
+     * @return 등록 결과 요약 (행 단위 오류 포함)
      */
-    private List<OrderRequestDto> parseExcelFile(MultipartFile file) {
-        List<OrderRequestDto> orderRequests = new ArrayList<>();
+    public OrderImportResult importOrders(Path file, OrderGrouping grouping, ImportProgressListener listener) {
+        return importOrders(file, grouping, listener, order -> {
+        });
+    }
 
-        try (InputStream inputStream = file.getInputStream();
-             Workbook workbook = WorkbookFactory.create(inputStream)) {
+    /**
+     * @param createdOrders 커밋된 주문을 전달받을 소비자
+     */
+    private OrderImportResult importOrders(Path file, OrderGrouping grouping, ImportProgressListener listener,
+                                           Consumer<OrderResponseDto> createdOrders) {
+        long startedAt = System.nanoTime();
+        OrderRowReader reader = orderRowReaderFactory.getReader(file);
+        AtomicInteger totalRows = new AtomicInteger();
+        OrderReferences references = resolveReferences(reader, file, totalRows);
+        listener.started(totalRows.get());
 
-            Sheet sheet = workbook.getSheetAt(0);
-            for (Row row : sheet) {
-                if (row.getRowNum() == 0) continue; // 첫 번째 행(헤더) 스킵
+        ChunkImporter importer = new ChunkImporter(references, listener, createdOrders);
+        readOrders(reader, file, grouping, importer::add);
+        importer.commitChunk();
 
-                OrderRequestDto orderRequest = validateAndExtractData(row);
-                orderRequests.add(orderRequest);
-            }
+        orderMetrics.importRows(totalRows.get() - importer.failedRowCount, importer.failedRowCount);
+        orderMetrics.importThroughput(totalRows.get(), System.nanoTime() - startedAt);
+        return new OrderImportResult(totalRows.get(), importer.createdOrderCount, importer.failedRowCount, importer.errors);
+    }
 
-        } catch (IOException e) {
-            throw new ExcelProcessingException("엑셀 파일을 처리하는 중 오류가 발생했습니다.");
-        }
+    /**
+     * 파일 전체의 고객/상품 ID 를 모아 집합 단위로 조회
+     *
+     * @param rowCounter 전체 행 수를 셀 카운터
+     */
+    private OrderReferences resolveReferences(OrderRowReader reader, Path file, AtomicInteger rowCounter) {
+        return orderMetrics.timeImportParse(() -> {
+            Set<Long> customerIds = new HashSet<>();
+            Set<Long> productIds = new HashSet<>();
+            reader.read(file, row -> {
+                customerIds.add(row.getCustomerId());
+                productIds.add(row.getProductId());
+                rowCounter.incrementAndGet();
+            });
 
-        return orderRequests;
+            return orderReferenceResolver.resolve(customerIds, productIds);
+        });
     }
 
     /**
-     * 개별 엑셀 행을 검증하고 주문 요청 DTO로 변환
-     *
-     * @param row 엑셀 행
-     * @return 주문 요청 DTO
-     * @throws CustomerNotFoundException, ProductNotFoundException 데이터 유효성 검사 실패 시
+     * 파일을 읽어 묶음 방식에 따라 주문 요청으로 변환
+     * <p>
+     * {@link OrderGrouping#CUSTOMER} 는 고객(+ 주문 참조번호)별로 모은 뒤 파일에 처음 나온 순서대로 전달한다.
      */
-    private OrderRequestDto validateAndExtractData(Row row) {
-        Long customerId = (long) row.getCell(0).getNumericCellValue();
-        Long productId = (long) row.getCell(1).getNumericCellValue();
-        int quantity = (int) row.getCell(2).getNumericCellValue();
+    private void readOrders(OrderRowReader reader, Path file, OrderGrouping grouping, Consumer<PendingOrder> consumer) {
+        if (grouping != OrderGrouping.CUSTOMER) {
+            reader.read(file, row -> consumer.accept(new PendingOrder(
+                    new OrderRequestDto(row.getCustomerId(), new ArrayList<>(List.of(new OrderItemDto(row.getProductId(), row.getQuantity())))),
+                    List.of(row.getRowNumber()))));
+            return;
+        }
 
-        customerRepository.findById(customerId)
-                .orElseThrow(() -> new CustomerNotFoundException("고객이 존재하지 않습니다. (고객 ID: " + customerId + ")"));
-        productRepository.findById(productId)
-                .orElseThrow(() -> new CustomerNotFoundException("상품이 존재하지 않습니다. (상품 ID: " + productId + ")"));
+        Map<OrderGroupKey, PendingOrder> groups = new LinkedHashMap<>();
+        reader.read(file, row -> {
+            PendingOrder group = groups.computeIfAbsent(new OrderGroupKey(row.getCustomerId(), row.getOrderRef()),
+                    key -> new PendingOrder(new OrderRequestDto(key.customerId(), new ArrayList<>()), new ArrayList<>()));
+            group.requestDto().getOrderItems().add(new OrderItemDto(row.getProductId(), row.getQuantity()));
+            group.rowNumbers().add(row.getRowNumber());
+        });
+        groups.values().forEach(consumer);
+    }
 
-        return new OrderRequestDto(customerId, new ArrayList<>(List.of(new OrderItemDto(productId, quantity))));
+    private record OrderGroupKey(long customerId, String orderRef) {
     }
-}
 
+    /**
+     * 생성 대기 중인 주문 요청과 그 주문을 구성하는 파일 행 번호
+     */
+    private record PendingOrder(OrderRequestDto requestDto, List<Integer> rowNumbers) {
+    }
+
+    /**
+     * 주문을 chunk-size 행 단위로 모아 청크마다 별도 트랜잭션으로 커밋
+     */
+    private class ChunkImporter {
+
+        private final OrderReferences references;
+        private final ImportProgressListener listener;
+        private final Consumer<OrderResponseDto> createdOrders;
+        private final List<PendingOrder> chunk = new ArrayList<>();
+        private final List<OrderImportRowError> errors = new ArrayList<>();
+        private int chunkRows;
+        private int createdOrderCount;
+        private int failedRowCount;
 
+        ChunkImporter(OrderReferences references, ImportProgressListener listener, Consumer<OrderResponseDto> createdOrders) {
+            this.references = references;
+            this.listener = listener;
+            this.createdOrders = createdOrders;
+        }
+
+        void add(PendingOrder pendingOrder) {
+            String missingReference = findMissingReference(pendingOrder.requestDto());
+            if (missingReference != null) {
+                fail(pendingOrder, missingReference);
+                return;
+            }
+
+            chunk.add(pendingOrder);
+            chunkRows += pendingOrder.rowNumbers().size();
+            if (chunkRows >= chunkSize) {
+                commitChunk();
+            }
+        }
+
+        void commitChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<OrderResponseDto> created = new ArrayList<>(chunk.size());
+            try {
+                chunkTransaction.executeWithoutResult(status -> {
+                    orderMetrics.replayOnFailure();
+                    orderService.lockStock(productIdsOf(chunk));
+                    chunk.forEach(pendingOrder -> created.add(createOrder(pendingOrder)));
+                });
+                created.forEach(createdOrders);
+                createdOrderCount += chunk.size();
+                listener.processed(chunkRows);
+            } catch (RuntimeException chunkFailure) {
+                // 청크 전체가 롤백되었으므로 주문을 하나씩 다시 실행해 실패한 행만 골라냄
+                for (PendingOrder pendingOrder : chunk) {
+                    try {
+                        createdOrders.accept(chunkTransaction.execute(status -> createOrder(pendingOrder)));
+                        createdOrderCount++;
+                        listener.processed(pendingOrder.rowNumbers().size());
+                    } catch (RuntimeException e) {
+                        fail(pendingOrder, messageOf(e));
+                    }
+                }
+            }
+
+            chunk.clear();
+            chunkRows = 0;
+        }
+
+        private Set<Long> productIdsOf(List<PendingOrder> pendingOrders) {
+            Set<Long> productIds = new HashSet<>();
+            for (PendingOrder pendingOrder : pendingOrders) {
+                pendingOrder.requestDto().getOrderItems().forEach(itemDto -> productIds.add(itemDto.getProductId()));
+            }
+            return productIds;
+        }
+
+        private OrderResponseDto createOrder(PendingOrder pendingOrder) {
+            OrderRequestDto requestDto = pendingOrder.requestDto();
+            return orderService.createOrder(requestDto, references.getCustomer(requestDto.getCustomerId()));
+        }
+
+        private String findMissingReference(OrderRequestDto requestDto) {
+            if (references.getMissingCustomerIds().contains(requestDto.getCustomerId())) {
+                return "고객이 존재하지 않습니다. (고객 ID: " + requestDto.getCustomerId() + ")";
+            }
+            for (OrderItemDto itemDto : requestDto.getOrderItems()) {
+                if (!references.containsProduct(itemDto.getProductId())) {
+                    return "상품이 존재하지 않습니다. (상품 ID: " + itemDto.getProductId() + ")";
+                }
+            }
+            return null;
+        }
+
+        private void fail(PendingOrder pendingOrder, String message) {
+            for (Integer rowNumber : pendingOrder.rowNumbers()) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new OrderImportRowError(rowNumber, message));
+                }
+            }
+            failedRowCount += pendingOrder.rowNumbers().size();
+            listener.processed(pendingOrder.rowNumbers().size());
+        }
+
+        private String messageOf(RuntimeException e) {
+            if (e instanceof BaseException) {
+                return e.getMessage();
+            }
+            log.warn("주문 파일 행 처리 실패", e);
+            return "서버 내부 오류 발생: " + e.getMessage();
+        }
+    }
+}
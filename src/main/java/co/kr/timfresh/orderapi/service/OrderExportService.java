@@ -0,0 +1,64 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.export.ExportFormat;
+import co.kr.timfresh.orderapi.export.OrderExportFilter;
+import co.kr.timfresh.orderapi.export.OrderExportRow;
+import co.kr.timfresh.orderapi.export.OrderExportWriter;
+import co.kr.timfresh.orderapi.export.OrderExportWriterFactory;
+import co.kr.timfresh.orderapi.repository.OrderItemRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * 주문을 파일로 내보내는 서비스 클래스
+ */
+@Service
+public class OrderExportService {
+
+    private final OrderItemRepository orderItemRepository;
+    private final OrderExportWriterFactory orderExportWriterFactory;
+    private final TransactionTemplate readTransaction;
+
+    public OrderExportService(OrderItemRepository orderItemRepository,
+                              OrderExportWriterFactory orderExportWriterFactory,
+                              PlatformTransactionManager transactionManager) {
+        this.orderItemRepository = orderItemRepository;
+        this.orderExportWriterFactory = orderExportWriterFactory;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 조건에 맞는 주문 항목을 주문번호 순으로 출력 스트림에 씀
+     * <p>
+     * DB 커서에서 읽은 행을 바로 writer 로 넘기므로 행 수와 무관하게 메모리 사용량이 일정하다.
+     * 읽기 트랜잭션(과 커넥션)은 커서를 다 읽으면 바로 끝내고, .xlsx 파일 본문은 트랜잭션 밖에서 응답으로 보낸다.
+     *
+     * @param filter 내보낼 주문 조건
+     * @param format 파일 형식
+     * @param out    응답 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long export(OrderExportFilter filter, ExportFormat format, OutputStream out) {
+        try (OrderExportWriter writer = orderExportWriterFactory.create(format, out)) {
+            Long rowCount = readTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<OrderExportRow> rows = orderItemRepository.streamExportRows(
+                        filter.getOrderNumberFrom(), filter.getOrderNumberTo(), filter.getCustomerId())) {
+                    for (OrderExportRow row : (Iterable<OrderExportRow>) rows::iterator) {
+                        writer.write(row);
+                        count++;
+                    }
+                }
+                return count;
+            });
+            writer.finish();
+            return rowCount;
+        }
+    }
+}
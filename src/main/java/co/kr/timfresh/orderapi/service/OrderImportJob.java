@@ -0,0 +1,94 @@
+package co.kr.timfresh.orderapi.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 파일 주문 등록 작업의 진행 상태 (메모리 보관)
+ */
+public class OrderImportJob implements ImportProgressListener {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Getter
+    private final String jobId = UUID.randomUUID().toString();
+
+    @Getter
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicInteger processedRows = new AtomicInteger();
+
+    @Getter
+    private volatile Status status = Status.QUEUED;
+
+    @Getter
+    private volatile int totalRows;
+
+    @Getter
+    private volatile Instant startedAt;
+
+    @Getter
+    private volatile Instant finishedAt;
+
+    @Getter
+    private volatile OrderImportResult result;
+
+    @Getter
+    private volatile String errorMessage;
+
+    void markRunning() {
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    void complete(OrderImportResult result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    @Override
+    public void started(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    @Override
+    public void processed(int rows) {
+        processedRows.addAndGet(rows);
+    }
+
+    public int getProcessedRows() {
+        return processedRows.get();
+    }
+
+    /**
+     * 시작 이후 초당 처리 행 수 (시작 전이면 0)
+     */
+    public double getRowsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return processedRows.get() * 1000.0 / elapsedMillis;
+    }
+
+    boolean isFinishedBefore(Instant threshold) {
+        return finishedAt != null && finishedAt.isBefore(threshold);
+    }
+}
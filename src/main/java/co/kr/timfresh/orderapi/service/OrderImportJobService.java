@@ -0,0 +1,131 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.exception.BaseException;
+import co.kr.timfresh.orderapi.exception.ImportJobNotFoundException;
+import co.kr.timfresh.orderapi.exception.ImportJobRejectedException;
+import co.kr.timfresh.orderapi.upload.OrderGrouping;
+import co.kr.timfresh.orderapi.util.TempFileUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 주문 등록을 백그라운드에서 실행하고 진행 상태를 제공하는 서비스
+ * <p>
+ * 요청 스레드(Tomcat)와 분리된 고정 크기 풀과 제한된 대기열에서 실행하므로,
+ * 업로드가 몰려도 단건 주문 API 의 스레드와 DB 커넥션을 모두 점유하지 않는다.
+ * 대기열이 가득 차면 작업을 받지 않고 {@link ImportJobRejectedException} 을 던진다.
+ * 가상 스레드 모드(Java 21 이상, spring.threads.virtual.enabled=true)에서는 같은 제한을 두고 작업마다 가상 스레드로 실행한다.
+ */
+@Slf4j
+@Service
+public class OrderImportJobService {
+
+    private final OrderExcelService orderExcelService;
+    private final Duration jobRetention;
+    private final TaskExecutor executor;
+    private final Map<String, OrderImportJob> jobs = new ConcurrentHashMap<>();
+
+    public OrderImportJobService(OrderExcelService orderExcelService,
+                                 Environment environment,
+                                 @Value("${order.import.executor.pool-size:2}") int poolSize,
+                                 @Value("${order.import.executor.queue-capacity:10}") int queueCapacity,
+                                 @Value("${order.import.job-retention:1h}") Duration jobRetention) {
+        this.orderExcelService = orderExcelService;
+        this.jobRetention = jobRetention;
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.executor = new VirtualThreadImportExecutor(poolSize, queueCapacity);
+        } else {
+            ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+            threadPool.setCorePoolSize(poolSize);
+            threadPool.setMaxPoolSize(poolSize);
+            threadPool.setQueueCapacity(queueCapacity);
+            threadPool.setThreadNamePrefix("order-import-");
+            threadPool.initialize();
+            this.executor = threadPool;
+        }
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 저장한 뒤 등록 작업을 대기열에 넣음
+     *
+     * @param file     업로드된 주문 파일
+     * @param grouping 행을 주문으로 묶는 방식
+     * @return 등록된 작업
+     * @throws ImportJobRejectedException 대기열이 가득 찬 경우
+     */
+    public OrderImportJob submit(MultipartFile file, OrderGrouping grouping) {
+        evictExpiredJobs();
+
+        Path tempFile = TempFileUtils.store(file);
+        OrderImportJob job = new OrderImportJob();
+        jobs.put(job.getJobId(), job);
+
+        try {
+            executor.execute(() -> run(job, tempFile, grouping));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            TempFileUtils.deleteQuietly(tempFile);
+            throw new ImportJobRejectedException("처리 대기 중인 업로드가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @throws ImportJobNotFoundException 작업이 없거나 보관 기간이 지난 경우
+     */
+    public OrderImportJob getJob(String jobId) {
+        OrderImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("업로드 작업을 찾을 수 없습니다. (작업 ID: " + jobId + ")");
+        }
+        return job;
+    }
+
+    private void run(OrderImportJob job, Path file, OrderGrouping grouping) {
+        job.markRunning();
+        try {
+            job.complete(orderExcelService.importOrders(file, grouping, job));
+        } catch (BaseException e) {
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("주문 파일 등록 작업 실패 (작업 ID: {})", job.getJobId(), e);
+            job.fail("서버 내부 오류 발생: " + e.getMessage());
+        } finally {
+            TempFileUtils.deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업 정리
+     */
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof VirtualThreadImportExecutor virtualThreads) {
+            virtualThreads.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.kr.timfresh.orderapi.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 파일 주문 등록 결과 요약
+ */
+@Getter
+public class OrderImportResult {
+
+    private final int totalRows;
+    private final int createdOrderCount;
+    private final int failedRowCount;
+    private final List<OrderImportRowError> errors; // 최대 1,000건까지만 포함
+
+    public OrderImportResult(int totalRows, int createdOrderCount, int failedRowCount, List<OrderImportRowError> errors) {
+        this.totalRows = totalRows;
+        this.createdOrderCount = createdOrderCount;
+        this.failedRowCount = failedRowCount;
+        this.errors = List.copyOf(errors);
+    }
+}
@@ -0,0 +1,18 @@
+package co.kr.timfresh.orderapi.service;
+
+import lombok.Getter;
+
+/**
+ * 파일 주문 등록 중 실패한 행과 사유
+ */
+@Getter
+public class OrderImportRowError {
+
+    private final int rowNumber;
+    private final String message;
+
+    public OrderImportRowError(int rowNumber, String message) {
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+}
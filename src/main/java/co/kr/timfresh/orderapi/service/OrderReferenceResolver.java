@@ -0,0 +1,66 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import co.kr.timfresh.orderapi.catalog.CustomerInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 주문에 사용되는 고객/상품 ID 를 집합 단위로 조회하여 존재 여부를 확인하는 서비스
+ * <p>
+ * 행마다 findById 를 호출하는 대신 카탈로그 캐시에서 찾고, 캐시에 없는 ID 만 IN 쿼리로 나누어 조회한다.
+ * 재고는 차감 시 다시 확인하므로 여기서는 존재 여부만 본다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderReferenceResolver {
+
+    // IN 절 파라미터 수 제한이 있는 DB 를 고려한 분할 크기
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final CatalogCache catalogCache;
+
+    public OrderReferences resolve(Set<Long> customerIds, Set<Long> productIds) {
+        Map<Long, CustomerInfo> customers = new HashMap<>();
+        for (List<Long> ids : partition(customerIds)) {
+            customers.putAll(catalogCache.getCustomers(ids));
+        }
+
+        Set<Long> existingProductIds = new HashSet<>();
+        for (List<Long> ids : partition(productIds)) {
+            existingProductIds.addAll(catalogCache.getProducts(ids).keySet());
+        }
+
+        Set<Long> missingCustomerIds = new TreeSet<>(customerIds);
+        missingCustomerIds.removeAll(customers.keySet());
+        Set<Long> missingProductIds = new TreeSet<>(productIds);
+        missingProductIds.removeAll(existingProductIds);
+
+        return new OrderReferences(customers, existingProductIds, missingCustomerIds, missingProductIds);
+    }
+
+    private List<List<Long>> partition(Collection<Long> ids) {
+        List<List<Long>> partitions = new ArrayList<>();
+        List<Long> current = new ArrayList<>(Math.min(ids.size(), IN_CLAUSE_SIZE));
+        for (Long id : ids) {
+            current.add(id);
+            if (current.size() == IN_CLAUSE_SIZE) {
+                partitions.add(current);
+                current = new ArrayList<>(IN_CLAUSE_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+}
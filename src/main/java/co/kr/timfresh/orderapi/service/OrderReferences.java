@@ -0,0 +1,38 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.catalog.CustomerInfo;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 요청들이 참조하는 고객/상품을 일괄 조회한 결과
+ */
+public class OrderReferences {
+
+    private final Map<Long, CustomerInfo> customers;
+    private final Set<Long> productIds;
+
+    @Getter
+    private final Set<Long> missingCustomerIds;
+
+    @Getter
+    private final Set<Long> missingProductIds;
+
+    public OrderReferences(Map<Long, CustomerInfo> customers, Set<Long> productIds,
+                           Set<Long> missingCustomerIds, Set<Long> missingProductIds) {
+        this.customers = customers;
+        this.productIds = productIds;
+        this.missingCustomerIds = missingCustomerIds;
+        this.missingProductIds = missingProductIds;
+    }
+
+    public CustomerInfo getCustomer(Long customerId) {
+        return customers.get(customerId);
+    }
+
+    public boolean containsProduct(Long productId) {
+        return productIds.contains(productId);
+    }
+}
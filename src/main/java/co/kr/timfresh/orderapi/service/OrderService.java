@@ -1,39 +1,70 @@
 package co.kr.timfresh.orderapi.service;
 
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import co.kr.timfresh.orderapi.catalog.CustomerInfo;
+import co.kr.timfresh.orderapi.catalog.ProductInfo;
 import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderPageDto;
 import co.kr.timfresh.orderapi.dto.OrderRequestDto;
 import co.kr.timfresh.orderapi.dto.OrderResponseDto;
-import co.kr.timfresh.orderapi.entity.Customer;
 import co.kr.timfresh.orderapi.entity.Order;
 import co.kr.timfresh.orderapi.entity.OrderItem;
-import co.kr.timfresh.orderapi.entity.Product;
 import co.kr.timfresh.orderapi.exception.CustomerNotFoundException;
+import co.kr.timfresh.orderapi.exception.OrderNotFoundException;
 import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.metrics.OrderMetrics;
+import co.kr.timfresh.orderapi.metrics.OrderMetrics.Phase;
+import co.kr.timfresh.orderapi.money.Money;
+import co.kr.timfresh.orderapi.pricing.PriceRuleEngine;
+import co.kr.timfresh.orderapi.pricing.PriceRuleTable;
 import co.kr.timfresh.orderapi.repository.CustomerRepository;
 import co.kr.timfresh.orderapi.repository.OrderRepository;
 import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.stock.StockBucketService;
+import co.kr.timfresh.orderapi.stock.StockStrategy;
+import co.kr.timfresh.orderapi.stock.StockStrategyFactory;
 import co.kr.timfresh.orderapi.strategy.PriceStrategy;
 import co.kr.timfresh.orderapi.strategy.PriceStrategyFactory;
 import co.kr.timfresh.orderapi.util.OrderNumberGenerator;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class OrderService {
 
+    // 주문 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+    // 상품 행을 한 번에 잠그는 최대 개수 (IN 절 파라미터 수 제한)
+    private static final int LOCK_BATCH_SIZE = 1000;
+
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final CatalogCache catalogCache;
     private final PriceStrategyFactory priceStrategyFactory;
+    private final PriceRuleEngine priceRuleEngine;
+    private final StockStrategyFactory stockStrategyFactory;
+    private final StockBucketService stockBucketService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OrderMetrics orderMetrics;
 
     /**
-     * 주문 생성 메서드 (Pessimistic Lock 적용, 가격 전략 반영)
+     * 주문 생성 메서드 (재고 차감 전략 및 가격 전략 반영)
      *
      * @param requestDto 주문 요청 정보
      * @return 생성된 주문의 응답 DTO
@@ -41,28 +72,193 @@ public class OrderService {
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto requestDto) {
 
-        Customer customer = customerRepository.findById(requestDto.getCustomerId())
+        CustomerInfo customer = orderMetrics.time(Phase.CUSTOMER_LOOKUP, () -> catalogCache.getCustomer(requestDto.getCustomerId()))
+                .orElseThrow(() -> {
+                    CustomerNotFoundException e = new CustomerNotFoundException("고객 정보를 찾을 수 없습니다.");
+                    orderMetrics.orderFailed(e);
+                    return e;
+                });
+
+        return createOrder(requestDto, customer);
+    }
+
+    /**
+     * 이미 조회한 고객으로 주문 생성 (대량 등록 시 고객 재조회 생략)
+     * <p>
+     * 재고는 차감 전략으로 확인하고, 가격과 응답에 쓰는 상품/고객 정보는 카탈로그 캐시에서 읽는다.
+     *
+     * @param requestDto 주문 요청 정보
+     * @param customer   주문 고객
+     * @return 생성된 주문의 응답 DTO
+     */
+    @Transactional
+    public OrderResponseDto createOrder(OrderRequestDto requestDto, CustomerInfo customer) {
+        Timer.Sample sample = orderMetrics.start();
+        try {
+            OrderResponseDto responseDto = doCreateOrder(requestDto, customer);
+            orderMetrics.orderCreated(sample);
+            return responseDto;
+        } catch (RuntimeException e) {
+            orderMetrics.orderFailed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 여러 주문을 만들기 전에 재고 차감에 쓰이는 행을 상품 ID 오름차순으로 모두 잠금
+     * <p>
+     * 주문마다 상품 ID 순서로 락을 잡아도, 락을 커밋까지 유지하는 트랜잭션이 여러 주문을 만들면 주문 사이에서 순서가 뒤집힌다.
+     * 처음에 트랜잭션(파일 등록 청크)의 락을 같은 순서로 잡아 두면 다른 청크나 단건 주문과 교차 대기(데드락)하지 않는다.
+     * 버킷으로 나눈 상품은 버킷 행을, 나머지는 상품 행을 잠그며, 메모리 장부(LEDGER)는 주문 중 상품 행을 잠그지 않으므로 건너뛴다.
+     *
+     * @param productIds 트랜잭션에서 주문할 상품 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockStock(Collection<Long> productIds) {
+        Set<Long> bucketedProductIds = stockBucketService.findBucketedProductIds(productIds);
+        boolean lockProducts = !stockStrategyFactory.getStrategy().isWriteBehind();
+
+        List<Long> pending = new ArrayList<>();
+        for (Long productId : new TreeSet<>(productIds)) {
+            if (bucketedProductIds.contains(productId)) {
+                lockProducts(pending);
+                stockBucketService.lockBuckets(productId);
+            } else if (lockProducts) {
+                pending.add(productId);
+                if (pending.size() == LOCK_BATCH_SIZE) {
+                    lockProducts(pending);
+                }
+            }
+        }
+        lockProducts(pending);
+    }
+
+    /**
+     * 주문번호로 주문 조회 (주문, 고객, 주문 항목을 쿼리 한 번으로 로딩)
+     *
+     * @param orderNumber 주문번호
+     * @return 주문 응답 DTO
+     * @throws OrderNotFoundException 주문이 없을 경우
+     */
+    @Transactional(readOnly = true)
+    public OrderResponseDto getOrder(String orderNumber) {
+        return orderRepository.findWithCustomerAndItemsByOrderNumber(orderNumber)
+                .map(OrderResponseDto::new)
+                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 고객의 주문 목록을 최신순으로 조회 (커서 기반 페이지)
+     * <p>
+     * 한 건을 더 읽어 다음 페이지 여부를 판단하고, 주문 항목은 @BatchSize 로 페이지 단위로 묶어서 로딩한다.
+     *
+     * @param customerId 고객 ID
+     * @param cursor     이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size       페이지 크기 (1 ~ 100 으로 보정)
+     * @return 주문 목록 페이지
+     * @throws CustomerNotFoundException 고객이 없을 경우
+     */
+    @Transactional(readOnly = true)
+    public OrderPageDto getCustomerOrders(Long customerId, String cursor, int size) {
+        catalogCache.getCustomer(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException("고객 정보를 찾을 수 없습니다."));
 
-        Order order = Order.create(OrderNumberGenerator.generateOrderNumber(), customer);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Order> orders = cursor == null
+                ? orderRepository.findLatestByCustomerId(customerId, limit)
+                : orderRepository.findByCustomerIdBefore(customerId, cursor, limit);
 
-        for (OrderItemDto itemDto : requestDto.getOrderItems()) {
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+        String nextCursor = hasNext ? page.get(page.size() - 1).getOrderNumber() : null;
 
-            Product product = productRepository.findByIdWithLock(itemDto.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        return new OrderPageDto(page.stream().map(OrderResponseDto::new).toList(), nextCursor);
+    }
 
-            product.decreaseStock(itemDto.getQuantity());
+    private OrderResponseDto doCreateOrder(OrderRequestDto requestDto, CustomerInfo customer) {
 
-            PriceStrategy priceStrategy = priceStrategyFactory.getStrategy(customer.getCustomerType());
-            BigDecimal finalPrice = priceStrategy.calculatePrice(product.getPrice(), itemDto.getQuantity());
+        PriceStrategy priceStrategy = priceStrategyFactory.getStrategy(customer.getCustomerType());
+        PriceRuleTable priceRules = priceRuleEngine.current();
 
-            order.addOrderItem(OrderItem.create(product, itemDto.getQuantity(), finalPrice));
-        }
+        Map<Long, Integer> quantities = sumQuantitiesByProduct(requestDto.getOrderItems());
+        Set<Long> bucketedProductIds = stockBucketService.findBucketedProductIds(quantities.keySet());
+        StockStrategy stockStrategy = stockStrategyFactory.getStrategy();
+        orderMetrics.time(Phase.STOCK_DECREMENT, () -> decreaseStockInLockOrder(stockStrategy, quantities, bucketedProductIds));
+
+        // 조건부 UPDATE 는 영속성 컨텍스트를 비우므로 주문 엔티티와 연관 참조는 재고 차감 후에 만듦
+        Order order = Order.create(orderNumberGenerator.generateOrderNumber(), customerRepository.getReferenceById(customer.getId()));
 
-        // 주문 저장
+        orderMetrics.time(Phase.PRICING, () -> {
+            Map<Long, ProductInfo> products = catalogCache.getProducts(quantities.keySet());
+
+            for (OrderItemDto itemDto : requestDto.getOrderItems()) {
+
+                ProductInfo product = products.get(itemDto.getProductId());
+                if (product == null) {
+                    throw new ProductNotFoundException("상품을 찾을 수 없습니다.");
+                }
+                Money finalPrice = priceRules.apply(product.getId(), customer.getCustomerType(), itemDto.getQuantity(),
+                        priceStrategy.calculatePrice(product.getUnitPrice(), itemDto.getQuantity()));
+
+                OrderItem orderItem = OrderItem.create(productRepository.getReferenceById(product.getId()), itemDto.getQuantity(), finalPrice);
+                if (stockStrategy.isWriteBehind() && !bucketedProductIds.contains(product.getId())) {
+                    orderItem.markStockPending();
+                }
+                order.addOrderItem(orderItem);
+            }
+        });
+
+        // 주문 저장 (INSERT 는 커밋 시 배치로 실행되므로 커밋 시간을 PERSIST 구간으로 기록)
         orderRepository.save(order);
+        orderMetrics.recordPersistOnCommit();
+
+        // 응답 DTO 반환 (고객 정보는 캐시 값 사용)
+        return new OrderResponseDto(order.getOrderNumber(), customer.getName(), customer.getAddress(),
+                order.getTotalAmount().toBigDecimal(), order.getItemCount(),
+                order.getOrderItems().stream().map(OrderItemDto::new).toList());
+    }
 
-        // 응답 DTO 반환
-        return new OrderResponseDto(order);
+    /**
+     * 모아 둔 상품 행을 한 번에 잠그고 목록을 비움
+     */
+    private void lockProducts(List<Long> productIds) {
+        if (!productIds.isEmpty()) {
+            long startedAt = System.nanoTime();
+            productRepository.findAllByIdInWithLock(productIds);
+            orderMetrics.recordLockWait(System.nanoTime() - startedAt);
+            productIds.clear();
+        }
+    }
+
+    /**
+     * 상품별 주문 수량 합계 (상품 ID 오름차순)
+     */
+    private Map<Long, Integer> sumQuantitiesByProduct(List<OrderItemDto> orderItems) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemDto itemDto : orderItems) {
+            quantities.merge(itemDto.getProductId(), itemDto.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 상품 ID 오름차순으로 재고 차감 (설정된 재고 차감 전략 사용, 재고를 버킷으로 나눈 상품은 버킷에서 차감)
+     * <p>
+     * 동시에 들어온 주문들이 항상 같은 순서로 락을 잡으므로 교차 대기(데드락)가 생기지 않는다.
+     * 같은 상품이 여러 항목에 있으면 수량을 합쳐 한 번만 차감한다.
+     *
+     * @param stockStrategy      재고 차감 전략
+     * @param quantities         상품 ID 오름차순 상품별 주문 수량
+     * @param bucketedProductIds 재고를 버킷으로 나눈 상품 ID
+     */
+    private void decreaseStockInLockOrder(StockStrategy stockStrategy, Map<Long, Integer> quantities, Set<Long> bucketedProductIds) {
+        quantities.forEach((productId, quantity) -> {
+            if (bucketedProductIds.contains(productId)) {
+                stockBucketService.decreaseStock(productId, quantity);
+            } else {
+                stockStrategy.decreaseStock(productId, quantity);
+            }
+        });
     }
 }
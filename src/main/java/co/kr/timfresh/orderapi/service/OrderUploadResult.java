@@ -0,0 +1,20 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동기 파일 주문 등록 결과 (등록 결과 요약과 생성된 주문)
+ */
+@Getter
+public class OrderUploadResult extends OrderImportResult {
+
+    private final List<OrderResponseDto> orders; // 파일 순서대로 커밋된 주문
+
+    public OrderUploadResult(OrderImportResult result, List<OrderResponseDto> orders) {
+        super(result.getTotalRows(), result.getCreatedOrderCount(), result.getFailedRowCount(), result.getErrors());
+        this.orders = List.copyOf(orders);
+    }
+}
@@ -0,0 +1,38 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import co.kr.timfresh.orderapi.catalog.ProductInfo;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Service
+@RequiredArgsConstructor
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final CatalogCache catalogCache;
+
+    /**
+     * 상품 가격 변경 (커밋 후 캐시된 상품 정보 무효화)
+     *
+     * @param productId 상품 ID
+     * @param price     변경할 가격
+     * @return 변경된 상품 정보
+     */
+    @Transactional
+    public ProductInfo changePrice(Long productId, BigDecimal price) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+
+        product.changePrice(price);
+        catalogCache.evictProduct(productId);
+
+        return new ProductInfo(product.getId(), product.getName(), product.getPrice());
+    }
+}
@@ -0,0 +1,59 @@
+package co.kr.timfresh.orderapi.service;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 작업마다 가상 스레드를 만드는 파일 등록 실행기 (Java 21 이상, spring.threads.virtual.enabled=true)
+ * <p>
+ * 스레드 풀 대신 세마포어로 고정 크기 풀 + 제한된 대기열과 같은 동작을 한다.
+ * 동시에 실행하는 작업은 pool-size 개로 제한하여 DB 커넥션을 모두 점유하지 않고,
+ * 실행 중 + 대기 중인 작업이 pool-size + queue-capacity 개를 넘으면 바로 거절한다.
+ * (SimpleAsyncTaskExecutor 의 concurrencyLimit 은 제출한 요청 스레드를 막으므로 사용하지 않음)
+ */
+class VirtualThreadImportExecutor implements TaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore admitted;
+    private final Semaphore running;
+
+    VirtualThreadImportExecutor(int poolSize, int queueCapacity) {
+        this.delegate = new SimpleAsyncTaskExecutor("order-import-");
+        this.delegate.setVirtualThreads(true);
+        this.admitted = new Semaphore(poolSize + queueCapacity);
+        this.running = new Semaphore(poolSize, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admitted.tryAcquire()) {
+            throw new TaskRejectedException("파일 등록 대기열이 가득 찼습니다.");
+        }
+
+        try {
+            delegate.execute(() -> {
+                try {
+                    running.acquireUninterruptibly(); // 대기 중인 가상 스레드는 캐리어를 점유하지 않음
+                    try {
+                        task.run();
+                    } finally {
+                        running.release();
+                    }
+                } finally {
+                    admitted.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            admitted.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
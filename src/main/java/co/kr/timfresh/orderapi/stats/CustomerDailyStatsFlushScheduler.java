@@ -0,0 +1,29 @@
+package co.kr.timfresh.orderapi.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 고객 일별 집계 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerDailyStatsFlushScheduler {
+
+    private final CustomerDailyStatsFlusher customerDailyStatsFlusher;
+
+    @Scheduled(initialDelayString = "${order.stats.flush-interval-ms:1000}", fixedDelayString = "${order.stats.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            int flushed = customerDailyStatsFlusher.flushAll();
+            if (flushed > 0) {
+                log.debug("고객 일별 집계에 주문 {}건 반영", flushed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("고객 일별 집계 반영 실패 (다음 주기에 다시 반영)", e);
+        }
+    }
+}
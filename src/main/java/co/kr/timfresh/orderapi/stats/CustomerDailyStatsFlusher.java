@@ -0,0 +1,118 @@
+package co.kr.timfresh.orderapi.stats;
+
+import co.kr.timfresh.orderapi.entity.CustomerDailyStats;
+import co.kr.timfresh.orderapi.entity.Order;
+import co.kr.timfresh.orderapi.money.Money;
+import co.kr.timfresh.orderapi.repository.CustomerDailyStatsRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.PendingOrderStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 집계 미반영 주문을 모아 고객 일별 집계(customer_daily_stats)에 누적
+ * <p>
+ * 주문 생성 트랜잭션은 집계 행을 잠그지 않으므로 같은 고객의 동시 주문이 집계 행에서 줄을 서지 않는다.
+ * 한 배치의 집계 누적과 주문 반영 표시를 같은 트랜잭션에서 처리하므로 주문마다 정확히 한 번 반영된다.
+ * 여러 인스턴스가 같은 주문을 동시에 집으면 반영 표시 건수가 달라지므로 해당 배치를 롤백하고 다음 주기에 다시 처리한다.
+ */
+@Slf4j
+@Component
+public class CustomerDailyStatsFlusher {
+
+    private final OrderRepository orderRepository;
+    private final CustomerDailyStatsRepository customerDailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CustomerDailyStatsFlusher(OrderRepository orderRepository,
+                                     CustomerDailyStatsRepository customerDailyStatsRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${order.stats.flush-batch-size:500}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.customerDailyStatsRepository = customerDailyStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 미반영 주문이 없을 때까지 배치 단위로 반영
+     *
+     * @return 반영한 주문 수
+     */
+    public int flushAll() {
+        int flushed = 0;
+        int batch;
+        while ((batch = flushBatch()) > 0) {
+            flushed += batch;
+        }
+        return flushed;
+    }
+
+    /**
+     * 미반영 주문을 최대 flush-batch-size 건 반영
+     *
+     * @return 반영한 주문 수 (다른 인스턴스와 겹쳐 롤백한 경우 0)
+     */
+    public int flushBatch() {
+        Integer flushed = transactionTemplate.execute(status -> {
+            List<PendingOrderStats> orders = orderRepository.findPendingStats(PageRequest.of(0, batchSize));
+            if (orders.isEmpty()) {
+                return 0;
+            }
+
+            // 반영 표시를 먼저 해서 같은 주문을 집은 다른 플러셔와 순서를 맞춤
+            int marked = orderRepository.markStatsApplied(orders.stream().map(PendingOrderStats::getOrderNumber).toList());
+            if (marked != orders.size()) {
+                log.debug("다른 플러셔가 먼저 반영한 주문이 있어 배치 롤백 ({}/{}건)", marked, orders.size());
+                status.setRollbackOnly();
+                return 0;
+            }
+
+            // 고객 ID, 날짜 오름차순으로 갱신해 다른 갱신과 교차 대기하지 않도록 함
+            Map<Long, Map<LocalDate, DailyDelta>> deltas = new TreeMap<>();
+            for (PendingOrderStats order : orders) {
+                deltas.computeIfAbsent(order.getCustomerId(), customerId -> new TreeMap<>())
+                        .computeIfAbsent(Order.orderDateOf(order.getOrderNumber()), date -> new DailyDelta())
+                        .add(order);
+            }
+            deltas.forEach((customerId, byDate) -> byDate.forEach((date, delta) -> apply(customerId, date, delta)));
+
+            return orders.size();
+        });
+        return flushed == null ? 0 : flushed;
+    }
+
+    private void apply(Long customerId, LocalDate date, DailyDelta delta) {
+        int updated = customerDailyStatsRepository.addTo(customerId, date, delta.orderCount, delta.revenue.toBigDecimal(), delta.units);
+        if (updated == 0) {
+            // 그날 첫 집계 (다른 인스턴스가 동시에 만들면 유니크 제약 위반으로 배치가 롤백되고 다음 주기에 UPDATE 로 반영)
+            customerDailyStatsRepository.save(CustomerDailyStats.create(customerId, date, delta.orderCount, delta.revenue.toBigDecimal(), delta.units));
+        }
+    }
+
+    /**
+     * 고객 하루치 증가분
+     */
+    static final class DailyDelta {
+
+        private long orderCount;
+        private Money revenue = Money.ZERO;
+        private long units;
+
+        void add(PendingOrderStats order) {
+            orderCount++;
+            revenue = revenue.plus(order.getTotalAmount());
+            units += order.getItemCount();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package co.kr.timfresh.orderapi.stats;
+
+import co.kr.timfresh.orderapi.catalog.CatalogCache;
+import co.kr.timfresh.orderapi.dto.CustomerDailyStatsDto;
+import co.kr.timfresh.orderapi.dto.CustomerStatsDto;
+import co.kr.timfresh.orderapi.entity.CustomerDailyStats;
+import co.kr.timfresh.orderapi.entity.Order;
+import co.kr.timfresh.orderapi.exception.CustomerNotFoundException;
+import co.kr.timfresh.orderapi.exception.InvalidStatsRangeException;
+import co.kr.timfresh.orderapi.money.Money;
+import co.kr.timfresh.orderapi.repository.CustomerDailyStatsRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.PendingOrderStats;
+import co.kr.timfresh.orderapi.util.OrderNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerStatsService {
+
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    private static final int MAX_DAYS = 366;
+    // 기간을 생략하면 오늘까지 최근 30일
+    private static final int DEFAULT_DAYS = 30;
+
+    private final CustomerDailyStatsRepository customerDailyStatsRepository;
+    private final OrderRepository orderRepository;
+    private final CatalogCache catalogCache;
+    private final OrderNumberGenerator orderNumberGenerator;
+
+    /**
+     * 고객의 일별 주문 집계 조회 (order_items 를 읽지 않음)
+     * <p>
+     * 집계 테이블 값에 아직 플러셔가 반영하지 않은 주문(주문에 저장된 합계)을 더하므로 방금 생성한 주문도 포함된다.
+     * 두 조회 사이에 플러셔가 커밋하면 주문이 빠지거나 두 번 더해지므로, 두 테이블을 같은 스냅샷으로 읽도록 SERIALIZABLE 로 조회한다.
+     * (H2 의 REPEATABLE READ 는 테이블마다 처음 읽을 때 스냅샷을 잡으므로 부족함)
+     *
+     * @param customerId 고객 ID
+     * @param from       시작일 (포함, 생략 시 종료일 29일 전)
+     * @param to         종료일 (포함, 생략 시 주문번호 기준 시간대의 오늘)
+     * @return 기간 합계와 일별 집계 (주문이 없는 날은 제외)
+     * @throws CustomerNotFoundException   고객이 없을 경우
+     * @throws InvalidStatsRangeException 시작일이 종료일보다 늦거나 기간이 366일을 넘을 경우
+     */
+    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    public CustomerStatsDto getDailyStats(Long customerId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(orderNumberGenerator.getZone());
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new InvalidStatsRangeException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new InvalidStatsRangeException("조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+        catalogCache.getCustomer(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException("고객 정보를 찾을 수 없습니다."));
+
+        Map<LocalDate, DailyTotals> totals = new TreeMap<>();
+        for (CustomerDailyStats stats : customerDailyStatsRepository.findByCustomerIdAndStatDateBetweenOrderByStatDate(customerId, start, end)) {
+            totals.computeIfAbsent(stats.getStatDate(), date -> new DailyTotals())
+                    .add(stats.getOrderCount(), Money.of(stats.getRevenue()), stats.getUnits());
+        }
+        List<PendingOrderStats> pendingOrders = orderRepository.findPendingStatsByCustomerId(customerId,
+                start.format(DateTimeFormatter.BASIC_ISO_DATE), end.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+        for (PendingOrderStats order : pendingOrders) {
+            totals.computeIfAbsent(Order.orderDateOf(order.getOrderNumber()), date -> new DailyTotals())
+                    .add(1, order.getTotalAmount(), order.getItemCount());
+        }
+
+        List<CustomerDailyStatsDto> days = new ArrayList<>(totals.size());
+        totals.forEach((date, daily) -> days.add(new CustomerDailyStatsDto(date, daily.orderCount, daily.revenue.toBigDecimal(), daily.units)));
+        return new CustomerStatsDto(customerId, start, end, days);
+    }
+
+    private static final class DailyTotals {
+
+        private long orderCount;
+        private Money revenue = Money.ZERO;
+        private long units;
+
+        void add(long orderCount, Money revenue, long units) {
+            this.orderCount += orderCount;
+            this.revenue = this.revenue.plus(revenue);
+            this.units += units;
+        }
+    }
+}
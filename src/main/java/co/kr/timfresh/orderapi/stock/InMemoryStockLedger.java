@@ -0,0 +1,99 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품별 주문 가능 재고를 메모리에 보관하는 장부 (LEDGER 모드)
+ * <p>
+ * 상품을 처음 차감할 때 DB 재고에서 아직 반영되지 않은 주문 수량을 뺀 값으로 적재한다.
+ * 미반영 수량은 커밋된 주문 항목에 남아 있으므로, 서버가 재시작되어도 같은 값으로 다시 만들어진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryStockLedger {
+
+    private final ProductRepository productRepository;
+    private final ConcurrentMap<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+    // 장부를 비울 때마다 증가 (적재하는 동안 비워졌으면 읽은 값을 등록하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 재고를 확보 (DB 락 없이 CAS 로 차감)
+     *
+     * @throws ProductNotFoundException   상품이 없을 경우
+     * @throws InsufficientStockException 재고가 부족할 경우
+     */
+    public void reserve(Long productId, int quantity) {
+        AtomicInteger counter = counterOf(productId);
+        int current;
+        do {
+            current = counter.get();
+            if (current < quantity) {
+                throw new InsufficientStockException("재고가 부족합니다. (현재 재고: " + current + ")");
+            }
+        } while (!counter.compareAndSet(current, current - quantity));
+    }
+
+    /**
+     * 확보했던 재고를 되돌림 (주문 트랜잭션 롤백 시)
+     */
+    public void release(Long productId, int quantity) {
+        AtomicInteger counter = available.get(productId);
+        if (counter != null) {
+            counter.addAndGet(quantity);
+        }
+    }
+
+    /**
+     * 현재 주문 가능 재고
+     */
+    public int getAvailable(Long productId) {
+        return counterOf(productId).get();
+    }
+
+    /**
+     * 적재된 값을 모두 버리고 다음 차감 때 DB 에서 다시 적재 (재시작을 흉내 내는 테스트용, 진행 중인 주문이 없을 때만 사용)
+     */
+    void clear() {
+        generation.incrementAndGet();
+        available.clear();
+    }
+
+    /**
+     * computeIfAbsent 안에서 DB 를 조회하면 맵의 락(synchronized)을 잡은 채 대기하여 가상 스레드가 캐리어에 고정되므로,
+     * 락 밖에서 적재한 뒤 먼저 등록된 값을 사용한다.
+     * 상품이 장부에 없는 동안에는 차감이 없으므로, 적재하는 동안 장부가 비워지지 않았다면 어느 값이 등록되어도 DB 기준 재고와 같다.
+     * 비워졌다면 그 전에 읽은 값이 이후의 차감을 반영하지 못했을 수 있으므로 버리고 다시 적재한다.
+     */
+    private AtomicInteger counterOf(Long productId) {
+        while (true) {
+            AtomicInteger counter = available.get(productId);
+            if (counter != null) {
+                return counter;
+            }
+
+            long loadedGeneration = generation.get();
+            AtomicInteger loaded = load(productId);
+            AtomicInteger registered = available.compute(productId, (id, existing) ->
+                    existing != null || generation.get() != loadedGeneration ? existing : loaded);
+            if (registered != null) {
+                return registered;
+            }
+        }
+    }
+
+    private AtomicInteger load(Long productId) {
+        long availableStock = productRepository.findAvailableStockById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        return new AtomicInteger(Math.toIntExact(availableStock));
+    }
+}
@@ -0,0 +1,62 @@
+package co.kr.timfresh.orderapi.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 장부에서 재고를 차감하고 DB 재고는 나중에 반영 (write-behind)
+ * <p>
+ * 주문 항목은 재고 미반영 상태로 저장되고, {@link StockLedgerFlusher} 가 상품별로 합산해 products 테이블에 반영한다.
+ * 장부가 인스턴스 메모리에 있으므로 한 상품의 주문을 하나의 인스턴스만 받는 배포에서만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerStockStrategy implements StockStrategy {
+
+    private final InMemoryStockLedger stockLedger;
+
+    @Override
+    public StockMode getMode() {
+        return StockMode.LEDGER;
+    }
+
+    @Override
+    public boolean isWriteBehind() {
+        return true;
+    }
+
+    @Override
+    public void decreaseStock(Long productId, int quantity) {
+        stockLedger.reserve(productId, quantity);
+        TransactionSynchronizationManager.registerSynchronization(new ReleaseOnRollback(productId, quantity));
+    }
+
+    /**
+     * 주문이 롤백되면 확보한 재고를 장부에 되돌림
+     * <p>
+     * 커밋 여부를 알 수 없으면 초과 판매를 막기 위해 되돌리지 않는다. (재시작 시 DB 기준으로 다시 적재)
+     */
+    private class ReleaseOnRollback implements TransactionSynchronization {
+
+        private final Long productId;
+        private final int quantity;
+
+        ReleaseOnRollback(Long productId, int quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_ROLLED_BACK) {
+                stockLedger.release(productId, quantity);
+            } else if (status == STATUS_UNKNOWN) {
+                log.warn("주문 트랜잭션 결과를 알 수 없어 확보한 재고를 유지합니다. (상품 ID: {}, 수량: {})", productId, quantity);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.exception.StockConflictException;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.repository.ProductStockSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 낙관적 락(@Version)으로 재고 차감
+ * <p>
+ * 락 없이 재고와 버전을 읽고, 버전이 그대로일 때만 UPDATE 한다.
+ * 다른 트랜잭션이 먼저 변경해 갱신 행이 0건이면 지터를 준 지수 백오프 후 최대 max-attempts 번까지 다시 시도한다.
+ * 충돌을 flush 시점의 OptimisticLockException 대신 UPDATE 결과로 감지하므로, 재시도할 때 주문 트랜잭션 전체를 다시 실행하지 않는다.
+ * 단, 같은 트랜잭션에서 앞서 차감한 상품(또는 버킷)의 행 락을 잡고 있으면 대기하는 동안 그 상품의 다른 주문이 모두 멈추므로,
+ * 이때는 백오프 없이 바로 다시 시도한다. (백오프는 아직 아무 락도 잡지 않은 첫 상품에서만 함)
+ * 재시도마다 최신 값을 읽어야 하므로 READ COMMITTED 격리 수준을 전제로 한다.
+ */
+@Slf4j
+@Component
+public class OptimisticStockStrategy implements StockStrategy, MeterBinder {
+
+    private final ProductRepository productRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder giveUpCount = new LongAdder();
+
+    public OptimisticStockStrategy(ProductRepository productRepository,
+                                   @Value("${order.stock.optimistic.max-attempts:5}") int maxAttempts,
+                                   @Value("${order.stock.optimistic.backoff:10ms}") Duration backoff,
+                                   @Value("${order.stock.optimistic.max-backoff:200ms}") Duration maxBackoff) {
+        this.productRepository = productRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    public StockMode getMode() {
+        return StockMode.OPTIMISTIC;
+    }
+
+    @Override
+    public void decreaseStock(Long productId, int quantity) {
+        for (int attempt = 1; ; attempt++) {
+            ProductStockSnapshot snapshot = productRepository.findStockSnapshotById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+            if (snapshot.getStockQuantity() < quantity) {
+                throw new InsufficientStockException("재고가 부족합니다. (현재 재고: " + snapshot.getStockQuantity() + ")");
+            }
+
+            if (productRepository.decreaseStockIfVersionMatches(productId, quantity, snapshot.getVersion()) == 1) {
+                StockLockTracker.markHeld();
+                return;
+            }
+
+            if (attempt >= maxAttempts) {
+                giveUpCount.increment();
+                log.warn("재고 차감 충돌로 재시도 포기 (상품 ID: {}, 시도 횟수: {}, 누적 재시도: {}, 누적 포기: {})",
+                        productId, attempt, retryCount.sum(), giveUpCount.sum());
+                throw new StockConflictException("주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+
+            retryCount.increment();
+            if (!StockLockTracker.isHeld()) {
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("order.stock.optimistic.retries", retryCount, LongAdder::sum)
+                .description("버전 충돌로 재고 차감을 다시 시도한 횟수")
+                .register(registry);
+        FunctionCounter.builder("order.stock.optimistic.give.ups", giveUpCount, LongAdder::sum)
+                .description("재시도 한도를 넘겨 재고 차감을 포기한 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 누적 재시도 횟수
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * 재시도 한도를 넘겨 포기한 누적 횟수
+     */
+    public long getGiveUpCount() {
+        return giveUpCount.sum();
+    }
+
+    /**
+     * 지수 백오프 상한 안에서 무작위 시간만큼 대기 (full jitter)
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StockConflictException("재고 차감이 중단되었습니다.");
+        }
+    }
+}
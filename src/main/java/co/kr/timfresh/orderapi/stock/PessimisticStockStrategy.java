@@ -0,0 +1,36 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.metrics.OrderMetrics;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비관적 락(PESSIMISTIC_WRITE)으로 상품 행을 잠근 뒤 엔티티에서 재고 차감
+ * <p>
+ * 락은 트랜잭션이 끝날 때까지 유지된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticStockStrategy implements StockStrategy {
+
+    private final ProductRepository productRepository;
+    private final OrderMetrics orderMetrics;
+
+    @Override
+    public StockMode getMode() {
+        return StockMode.PESSIMISTIC;
+    }
+
+    @Override
+    public void decreaseStock(Long productId, int quantity) {
+        long startedAt = System.nanoTime();
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        orderMetrics.recordLockWait(System.nanoTime() - startedAt);
+
+        product.decreaseStock(quantity);
+    }
+}
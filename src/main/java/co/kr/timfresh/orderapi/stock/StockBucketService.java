@@ -0,0 +1,175 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.dto.ProductStockDto;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.entity.ProductStockBucket;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.exception.StockBucketConfigurationException;
+import co.kr.timfresh.orderapi.exception.StockConflictException;
+import co.kr.timfresh.orderapi.metrics.OrderMetrics;
+import co.kr.timfresh.orderapi.repository.OrderItemRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재고를 여러 버킷 행으로 나눈 상품의 재고 관리
+ * <p>
+ * 차감은 무작위로 고른 버킷부터 조건부 UPDATE 를 시도해, 서로 다른 버킷을 고른 주문끼리는 행 락을 나눠 갖는다.
+ * 한 버킷으로 채울 수 없으면 모든 버킷을 버킷 번호 순서로 잠그고 합계 기준으로 판단하므로,
+ * 재고 부족 여부와 메시지는 버킷을 쓰지 않는 상품과 같다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockBucketService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final StockStrategyFactory stockStrategyFactory;
+    private final OrderMetrics orderMetrics;
+
+    /**
+     * 주어진 상품 중 재고를 버킷으로 나눈 상품 ID
+     */
+    public Set<Long> findBucketedProductIds(Collection<Long> productIds) {
+        return new HashSet<>(productRepository.findStockBucketedIds(productIds));
+    }
+
+    /**
+     * 버킷 재고 차감 (주문 트랜잭션 안에서 호출)
+     *
+     * @throws InsufficientStockException 모든 버킷의 합이 부족할 경우
+     * @throws StockConflictException     조회 이후 버킷 구성이 해제된 경우
+     */
+    public void decreaseStock(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+
+        int bucketCount = product.getStockBucketCount();
+        if (bucketCount > 0 && decreaseFromAnyBucket(productId, bucketCount, quantity)) {
+            StockLockTracker.markHeld();
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean bucketsRemoved = productStockBucketRepository.findAllByProductIdWithLock(productId).isEmpty();
+        orderMetrics.recordLockWait(System.nanoTime() - startedAt);
+        StockLockTracker.markHeld();
+        if (bucketsRemoved) {
+            throw new StockConflictException("상품 재고 구성이 변경되었습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // 잠근 뒤 DB 값을 다시 읽고 조건부 UPDATE 로 차감 (영속성 컨텍스트의 버킷 엔티티는 이전 값일 수 있음)
+        List<Integer> bucketStocks = productStockBucketRepository.findStockQuantitiesByProductId(productId);
+        int totalStock = bucketStocks.stream().mapToInt(Integer::intValue).sum();
+        if (totalStock < quantity) {
+            throw new InsufficientStockException("재고가 부족합니다. (현재 재고: " + totalStock + ")");
+        }
+
+        int remaining = quantity;
+        for (int bucketNo = 0; bucketNo < bucketStocks.size() && remaining > 0; bucketNo++) {
+            int drained = Math.min(bucketStocks.get(bucketNo), remaining);
+            if (drained > 0 && productStockBucketRepository.decreaseStockIfAvailable(productId, bucketNo, drained) == 1) {
+                remaining -= drained;
+            }
+        }
+        if (remaining > 0) {
+            throw new StockConflictException("상품 재고 구성이 변경되었습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 상품의 모든 버킷을 버킷 번호 순서로 잠금 (여러 주문을 한 트랜잭션에서 만들기 전에 사용, 트랜잭션이 끝날 때까지 유지)
+     */
+    public void lockBuckets(Long productId) {
+        long startedAt = System.nanoTime();
+        productStockBucketRepository.findAllByProductIdWithLock(productId);
+        orderMetrics.recordLockWait(System.nanoTime() - startedAt);
+        StockLockTracker.markHeld();
+    }
+
+    /**
+     * 상품의 재고 버킷 수 변경 (0 이면 버킷을 없애고 상품 행 하나로 관리)
+     * <p>
+     * 현재 총 재고를 버킷에 고르게 나눈다. 진행 중인 차감과 겹치지 않도록 상품 행과 기존 버킷을 모두 잠근다.
+     * 메모리 장부(LEDGER)는 커밋 전의 확보 수량이 DB 에 보이지 않아 재고를 옮기는 시점을 맞출 수 없으므로 사용할 수 없다.
+     *
+     * @throws StockBucketConfigurationException LEDGER 모드이거나, 이전에 장부로 받은 주문이 아직 DB 에 반영되지 않았을 경우
+     */
+    @Transactional
+    public ProductStockDto configureBuckets(Long productId, int bucketCount) {
+        if (stockStrategyFactory.getStrategy().isWriteBehind()) {
+            throw new StockBucketConfigurationException("메모리 장부(LEDGER) 모드에서는 재고 버킷을 사용할 수 없습니다.");
+        }
+
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        if (orderItemRepository.existsByProductIdAndStockPendingTrue(productId)) {
+            throw new StockBucketConfigurationException("재고가 아직 반영되지 않은 주문이 있어 버킷을 변경할 수 없습니다.");
+        }
+
+        List<ProductStockBucket> currentBuckets = productStockBucketRepository.findAllByProductIdWithLock(productId);
+        int totalStock = product.isStockBucketed()
+                ? currentBuckets.stream().mapToInt(ProductStockBucket::getStockQuantity).sum()
+                : product.getStockQuantity();
+
+        productStockBucketRepository.deleteAllByProductId(productId);
+        List<Integer> bucketStocks = new ArrayList<>();
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            int bucketStock = totalStock / bucketCount + (bucketNo < totalStock % bucketCount ? 1 : 0);
+            productStockBucketRepository.save(ProductStockBucket.create(product, bucketNo, bucketStock));
+            bucketStocks.add(bucketStock);
+        }
+        product.changeStockBuckets(bucketCount, totalStock);
+
+        return new ProductStockDto(productId, totalStock, bucketStocks);
+    }
+
+    /**
+     * 무작위로 고른 버킷부터 한 버킷에서 전체 수량을 조건부 UPDATE 로 차감 (UPDATE 들의 실행 시간을 락 대기로 기록)
+     *
+     * @return 차감했으면 true, 수량을 채울 수 있는 버킷이 없으면 false
+     */
+    private boolean decreaseFromAnyBucket(Long productId, int bucketCount, int quantity) {
+        long startedAt = System.nanoTime();
+        try {
+            int start = ThreadLocalRandom.current().nextInt(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                if (productStockBucketRepository.decreaseStockIfAvailable(productId, (start + i) % bucketCount, quantity) == 1) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            orderMetrics.recordLockWait(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 상품의 총 재고와 버킷별 재고
+     */
+    @Transactional(readOnly = true)
+    public ProductStockDto getStock(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다."));
+        if (!product.isStockBucketed()) {
+            return new ProductStockDto(productId, product.getStockQuantity(), List.of());
+        }
+
+        List<Integer> bucketStocks = productStockBucketRepository.findAllByProductId(productId).stream()
+                .map(ProductStockBucket::getStockQuantity)
+                .toList();
+        return new ProductStockDto(productId, bucketStocks.stream().mapToInt(Integer::intValue).sum(), bucketStocks);
+    }
+}
@@ -0,0 +1,40 @@
+package co.kr.timfresh.orderapi.stock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * LEDGER 모드일 때 주기적으로 재고를 DB 에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.stock.mode", havingValue = "LEDGER")
+public class StockLedgerFlushScheduler {
+
+    private final StockLedgerFlusher stockLedgerFlusher;
+
+    @Scheduled(fixedDelayString = "${order.stock.ledger.flush-interval-ms:1000}")
+    public void flush() {
+        int flushed = stockLedgerFlusher.flushAll();
+        if (flushed > 0) {
+            log.debug("재고 미반영 주문 항목 {}건 반영", flushed);
+        }
+    }
+
+    /**
+     * 종료 전에 남은 항목을 반영 (실패해도 다음 기동 후 플러시에서 반영됨)
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            stockLedgerFlusher.flushAll();
+        } catch (RuntimeException e) {
+            log.warn("종료 전 재고 반영 실패 (다음 기동 후 반영됨)", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.repository.OrderItemRepository;
+import co.kr.timfresh.orderapi.repository.PendingStockItem;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 미반영 주문 항목을 모아 products 테이블에 반영 (LEDGER 모드)
+ * <p>
+ * 한 배치의 상품별 차감과 주문 항목 반영 표시를 같은 트랜잭션에서 처리하므로,
+ * 중간에 서버가 죽어도 반영되지 않은 항목이 그대로 남아 다음 플러시에서 정확히 한 번 반영된다.
+ * 주기 플러시와 종료 시 플러시, 여러 인스턴스가 같은 항목을 동시에 집으면 반영 표시 건수가 달라지므로 해당 배치를 롤백하고 다음 주기에 다시 처리한다.
+ */
+@Slf4j
+@Component
+public class StockLedgerFlusher {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public StockLedgerFlusher(OrderItemRepository orderItemRepository,
+                              ProductRepository productRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${order.stock.ledger.flush-batch-size:500}") int batchSize) {
+        this.orderItemRepository = orderItemRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 미반영 항목이 없을 때까지 배치 단위로 반영
+     *
+     * @return 반영한 주문 항목 수
+     */
+    public int flushAll() {
+        int flushed = 0;
+        int batch;
+        while ((batch = flushBatch()) > 0) {
+            flushed += batch;
+        }
+        return flushed;
+    }
+
+    /**
+     * 미반영 항목을 최대 flush-batch-size 개 반영
+     *
+     * @return 반영한 주문 항목 수 (다른 플러셔와 겹쳐 롤백한 경우 0)
+     */
+    public int flushBatch() {
+        Integer flushed = transactionTemplate.execute(status -> {
+            List<PendingStockItem> items = orderItemRepository.findPendingStock(PageRequest.of(0, batchSize));
+            if (items.isEmpty()) {
+                return 0;
+            }
+
+            // 반영 표시를 먼저 해서 같은 항목을 집은 다른 플러셔와 순서를 맞춤 (재고를 두 번 차감하지 않도록)
+            int marked = orderItemRepository.markStockApplied(items.stream().map(PendingStockItem::getId).toList());
+            if (marked != items.size()) {
+                log.debug("다른 플러셔가 먼저 반영한 주문 항목이 있어 배치 롤백 ({}/{}건)", marked, items.size());
+                status.setRollbackOnly();
+                return 0;
+            }
+
+            // 상품 ID 오름차순으로 갱신해 다른 갱신과 교차 대기하지 않도록 함
+            Map<Long, Integer> quantities = new TreeMap<>();
+            for (PendingStockItem item : items) {
+                quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+            quantities.forEach(productRepository::decreaseStockBy);
+
+            return items.size();
+        });
+        return flushed == null ? 0 : flushed;
+    }
+}
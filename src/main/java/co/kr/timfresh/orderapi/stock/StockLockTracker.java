@@ -0,0 +1,39 @@
+package co.kr.timfresh.orderapi.stock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 재고 행(상품/버킷) 락을 잡았는지 기록
+ * <p>
+ * 낙관적 재시도가 앞서 차감한 상품의 락을 쥔 채 백오프로 대기하지 않도록 확인하는 데 쓴다.
+ */
+final class StockLockTracker {
+
+    private static final Object LOCK_HELD_KEY = new Object();
+
+    private StockLockTracker() {
+    }
+
+    /**
+     * 재고 행을 갱신하거나 잠갔다고 표시 (트랜잭션이 끝나면 해제)
+     */
+    static void markHeld() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(LOCK_HELD_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(LOCK_HELD_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LOCK_HELD_KEY);
+            }
+        });
+    }
+
+    static boolean isHeld() {
+        return TransactionSynchronizationManager.hasResource(LOCK_HELD_KEY);
+    }
+}
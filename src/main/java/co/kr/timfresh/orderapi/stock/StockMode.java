@@ -0,0 +1,11 @@
+package co.kr.timfresh.orderapi.stock;
+
+/**
+ * 재고 차감 방식 (배포 단위로 order.stock.mode 에서 선택)
+ */
+public enum StockMode {
+    PESSIMISTIC,        // SELECT ... FOR UPDATE 로 락을 잡고 엔티티에서 차감 (기본값)
+    CONDITIONAL_UPDATE, // 조건부 UPDATE 한 번으로 차감 (갱신 행 0건이면 재고 부족)
+    OPTIMISTIC,         // 버전 비교 UPDATE 로 차감하고 충돌 시 백오프 후 재시도 (락 없이 읽음)
+    LEDGER              // 메모리 장부에서 차감하고 DB 재고는 플러셔가 모아서 반영 (단일 인스턴스 전용)
+}
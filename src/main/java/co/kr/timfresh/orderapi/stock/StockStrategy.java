@@ -0,0 +1,24 @@
+package co.kr.timfresh.orderapi.stock;
+
+public interface StockStrategy {
+
+    StockMode getMode();
+
+    /**
+     * 상품 재고를 차감 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감 수량
+     * @throws co.kr.timfresh.orderapi.exception.ProductNotFoundException   상품이 없을 경우
+     * @throws co.kr.timfresh.orderapi.exception.InsufficientStockException 재고가 부족할 경우
+     */
+    void decreaseStock(Long productId, int quantity);
+
+    /**
+     * 차감을 메모리에서만 하고 DB 재고에는 나중에 반영하는지 여부
+     * (true 이면 주문 항목을 재고 미반영 상태로 저장하고 {@link StockLedgerFlusher} 가 반영)
+     */
+    default boolean isWriteBehind() {
+        return false;
+    }
+}
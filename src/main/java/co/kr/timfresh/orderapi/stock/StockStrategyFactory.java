@@ -0,0 +1,31 @@
+package co.kr.timfresh.orderapi.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class StockStrategyFactory {
+    private final Map<StockMode, StockStrategy> strategyMap = new EnumMap<>(StockMode.class);
+    private final StockStrategy configuredStrategy;
+
+    public StockStrategyFactory(List<StockStrategy> strategies,
+                                @Value("${order.stock.mode:PESSIMISTIC}") StockMode stockMode) {
+        strategies.forEach(strategy -> strategyMap.put(strategy.getMode(), strategy));
+        this.configuredStrategy = getStrategy(stockMode);
+    }
+
+    /**
+     * 설정(order.stock.mode)으로 선택된 재고 차감 전략
+     */
+    public StockStrategy getStrategy() {
+        return configuredStrategy;
+    }
+
+    public StockStrategy getStrategy(StockMode stockMode) {
+        return strategyMap.get(stockMode);
+    }
+}
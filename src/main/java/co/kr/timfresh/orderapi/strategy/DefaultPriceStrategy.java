@@ -1,15 +1,12 @@
 package co.kr.timfresh.orderapi.strategy;
 
+import co.kr.timfresh.orderapi.money.Money;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 @Component
 public class DefaultPriceStrategy implements PriceStrategy {
     @Override
-    public BigDecimal calculatePrice(BigDecimal basePrice, int quantity) {
-        return basePrice.multiply(BigDecimal.valueOf(quantity))
-                .setScale(2, RoundingMode.HALF_UP); // 소수점 반올림 처리
+    public Money calculatePrice(Money unitPrice, int quantity) {
+        return unitPrice.times(quantity); // 최소 단위 정수 곱셈이라 반올림 불필요
     }
 }
@@ -1,7 +1,7 @@
 package co.kr.timfresh.orderapi.strategy;
 
-import java.math.BigDecimal;
+import co.kr.timfresh.orderapi.money.Money;
 
 public interface PriceStrategy {
-    BigDecimal calculatePrice(BigDecimal basePrice, int quantity);
+    Money calculatePrice(Money unitPrice, int quantity);
 }
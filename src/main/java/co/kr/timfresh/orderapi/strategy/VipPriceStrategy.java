@@ -1,15 +1,16 @@
 package co.kr.timfresh.orderapi.strategy;
 
+import co.kr.timfresh.orderapi.money.Money;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 @Component
 public class VipPriceStrategy implements PriceStrategy {
+
+    // 10% 할인 (basis point, 9000 = 90%)
+    private static final int DISCOUNTED_RATE = 9_000;
+
     @Override
-    public BigDecimal calculatePrice(BigDecimal basePrice, int quantity) {
-        BigDecimal totalPrice = basePrice.multiply(BigDecimal.valueOf(quantity));
-        return totalPrice.multiply(BigDecimal.valueOf(0.9)).setScale(2, RoundingMode.HALF_UP); // 10% 할인 적용 (소수점 반올림)
+    public Money calculatePrice(Money unitPrice, int quantity) {
+        return unitPrice.times(quantity).applyRate(DISCOUNTED_RATE); // 소수점 셋째 자리에서 반올림
     }
 }
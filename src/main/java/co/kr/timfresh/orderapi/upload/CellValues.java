@@ -0,0 +1,46 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 셀 원본 문자열을 숫자로 변환하는 유틸리티
+ */
+@UtilityClass
+class CellValues {
+
+    /**
+     * 셀 값을 long 으로 변환 (정수 형태는 바로 파싱하고, "2.0" 같은 실수 형태는 소수점 이하를 버림)
+     */
+    long toLong(String value, int rowNumber, String columnName) {
+        if (value == null || value.isBlank()) {
+            throw new ExcelProcessingException(columnName + " 값이 비어 있습니다. (" + rowNumber + "행)");
+        }
+
+        String trimmed = value.trim();
+        try {
+            return isDigits(trimmed) ? Long.parseLong(trimmed) : (long) Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            throw new ExcelProcessingException(columnName + " 값이 올바르지 않습니다. (" + rowNumber + "행: " + trimmed + ")");
+        }
+    }
+
+    /**
+     * 선택 항목 셀 값을 정리 (비어 있으면 null)
+     */
+    String toOptionalText(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
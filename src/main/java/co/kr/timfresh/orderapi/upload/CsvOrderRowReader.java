@@ -0,0 +1,204 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * .csv 파일을 바이트 단위로 읽는 리더 (엑셀과 같은 열 순서: 고객 ID, 상품 ID, 수량, 주문 참조번호)
+ * <p>
+ * 필드를 재사용 버퍼에 모아 숫자는 바이트에서 바로 변환하므로 행마다 문자열을 만들지 않는다.
+ * 첫 번째 행은 헤더로 보고 건너뛰며, RFC 4180 의 따옴표 필드와 UTF-8 BOM 을 지원한다.
+ */
+@Component
+public class CsvOrderRowReader implements OrderRowReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public void read(Path file, Consumer<OrderRow> consumer) {
+        try (InputStream in = Files.newInputStream(file)) {
+            new Parser(in, consumer).parse();
+        } catch (IOException e) {
+            throw new ExcelProcessingException("CSV 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static class Parser {
+
+        private static final int COLUMN_COUNT = 4;
+        private static final String[] COLUMN_NAMES = {"고객 ID", "상품 ID", "수량"};
+
+        private final InputStream in;
+        private final Consumer<OrderRow> consumer;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[][] fields = new byte[COLUMN_COUNT][32];
+        private final int[] fieldLengths = new int[COLUMN_COUNT];
+
+        private int position;
+        private int limit;
+        private int lineNumber = 1;
+        private int rowNumber = 1; // 현재 레코드가 시작된 행 번호
+        private int column;
+
+        Parser(InputStream in, Consumer<OrderRow> consumer) {
+            this.in = in;
+            this.consumer = consumer;
+        }
+
+        void parse() throws IOException {
+            skipBom();
+
+            boolean quoted = false;
+            boolean fieldStart = true;
+            int b;
+            while ((b = next()) >= 0) {
+                if (quoted) {
+                    if (b == '"') {
+                        if (peek() == '"') {
+                            next();
+                            append(b);
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        if (b == '\n') {
+                            lineNumber++;
+                        }
+                        append(b);
+                    }
+                    continue;
+                }
+
+                switch (b) {
+                    case '"' -> {
+                        if (fieldStart) {
+                            quoted = true;
+                        } else {
+                            append(b);
+                        }
+                    }
+                    case ',' -> {
+                        column++;
+                        fieldStart = true;
+                        continue;
+                    }
+                    case '\n' -> {
+                        endRecord();
+                        lineNumber++;
+                        rowNumber = lineNumber;
+                        fieldStart = true;
+                        continue;
+                    }
+                    case '\r' -> {
+                        // CRLF 의 CR 은 무시
+                    }
+                    default -> append(b);
+                }
+                fieldStart = false;
+            }
+
+            if (quoted) {
+                throw new ExcelProcessingException("따옴표가 닫히지 않았습니다. (" + rowNumber + "행)");
+            }
+            endRecord();
+        }
+
+        private void endRecord() {
+            if (rowNumber > 1 && hasAnyValue()) { // 첫 번째 행(헤더) 및 빈 행 스킵
+                consumer.accept(new OrderRow(
+                        rowNumber,
+                        toLong(0),
+                        toLong(1),
+                        (int) toLong(2),
+                        fieldLengths[3] > 0 ? CellValues.toOptionalText(fieldText(3)) : null
+                ));
+            }
+            column = 0;
+            Arrays.fill(fieldLengths, 0);
+        }
+
+        /**
+         * 숫자로만 이루어진 필드는 바이트에서 바로 변환하고, 그 외("2.0", 공백 포함 등)는 엑셀과 같은 규칙으로 변환
+         */
+        private long toLong(int index) {
+            byte[] field = fields[index];
+            int length = fieldLengths[index];
+            if (length == 0 || length > 18) {
+                return CellValues.toLong(fieldText(index), rowNumber, COLUMN_NAMES[index]);
+            }
+
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                int digit = field[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return CellValues.toLong(fieldText(index), rowNumber, COLUMN_NAMES[index]);
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private String fieldText(int index) {
+            return new String(fields[index], 0, fieldLengths[index], StandardCharsets.UTF_8);
+        }
+
+        private boolean hasAnyValue() {
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                for (int j = 0; j < fieldLengths[i]; j++) {
+                    if (fields[i][j] != ' ' && fields[i][j] != '\t') {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void append(int b) {
+            if (column >= COLUMN_COUNT) {
+                return; // 다섯 번째 열부터는 무시
+            }
+            int length = fieldLengths[column];
+            if (length == fields[column].length) {
+                fields[column] = Arrays.copyOf(fields[column], length * 2);
+            }
+            fields[column][length] = (byte) b;
+            fieldLengths[column] = length + 1;
+        }
+
+        private void skipBom() throws IOException {
+            if (fill() && limit >= 3
+                    && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+                position = 3;
+            }
+        }
+
+        private int next() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position] & 0xFF;
+        }
+
+        private boolean fill() throws IOException {
+            int read = in.readNBytes(buffer, 0, buffer.length);
+            position = 0;
+            limit = read;
+            return read > 0;
+        }
+    }
+}
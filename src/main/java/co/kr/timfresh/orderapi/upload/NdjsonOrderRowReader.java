@@ -0,0 +1,102 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 한 줄에 JSON 객체 하나인 .ndjson 파일을 Jackson 스트리밍 파서로 읽는 리더
+ * <p>
+ * 객체를 트리나 DTO 로 만들지 않고 토큰을 따라가며 필드 값만 꺼낸다. 헤더 행은 없다.
+ * <pre>{"customerId":1,"productId":2,"quantity":3,"orderRef":"A-1"}</pre>
+ */
+@Component
+public class NdjsonOrderRowReader implements OrderRowReader {
+
+    private final JsonFactory jsonFactory;
+
+    public NdjsonOrderRowReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public void read(Path file, Consumer<OrderRow> consumer) {
+        try (JsonParser parser = jsonFactory.createParser(file.toFile())) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                int rowNumber = parser.currentLocation().getLineNr();
+                if (token != JsonToken.START_OBJECT) {
+                    throw new ExcelProcessingException("JSON 객체가 아닙니다. (" + rowNumber + "행)");
+                }
+                consumer.accept(readRow(parser, rowNumber));
+            }
+        } catch (JsonProcessingException e) {
+            throw new ExcelProcessingException("JSON 형식이 올바르지 않습니다. (" + e.getLocation().getLineNr() + "행)");
+        } catch (IOException e) {
+            throw new ExcelProcessingException("NDJSON 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private OrderRow readRow(JsonParser parser, int rowNumber) throws IOException {
+        long customerId = 0;
+        long productId = 0;
+        long quantity = 0;
+        String orderRef = null;
+        boolean hasCustomerId = false;
+        boolean hasProductId = false;
+        boolean hasQuantity = false;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+                case "customerId" -> {
+                    customerId = toLong(parser, value, rowNumber, "고객 ID");
+                    hasCustomerId = true;
+                }
+                case "productId" -> {
+                    productId = toLong(parser, value, rowNumber, "상품 ID");
+                    hasProductId = true;
+                }
+                case "quantity" -> {
+                    quantity = toLong(parser, value, rowNumber, "수량");
+                    hasQuantity = true;
+                }
+                case "orderRef" -> orderRef = value == JsonToken.VALUE_NULL ? null : CellValues.toOptionalText(parser.getText());
+                default -> parser.skipChildren(); // 그 외 필드는 무시
+            }
+        }
+
+        if (!hasCustomerId) {
+            CellValues.toLong(null, rowNumber, "고객 ID");
+        }
+        if (!hasProductId) {
+            CellValues.toLong(null, rowNumber, "상품 ID");
+        }
+        if (!hasQuantity) {
+            CellValues.toLong(null, rowNumber, "수량");
+        }
+        return new OrderRow(rowNumber, customerId, productId, (int) quantity, orderRef);
+    }
+
+    /**
+     * 정수는 그대로 읽고, 문자열/실수는 엑셀 셀과 같은 규칙으로 변환
+     */
+    private long toLong(JsonParser parser, JsonToken value, int rowNumber, String columnName) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        if (value == JsonToken.VALUE_NULL) {
+            return CellValues.toLong(null, rowNumber, columnName);
+        }
+        return CellValues.toLong(parser.getText(), rowNumber, columnName);
+    }
+}
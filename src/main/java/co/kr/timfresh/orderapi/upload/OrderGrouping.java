@@ -0,0 +1,9 @@
+package co.kr.timfresh.orderapi.upload;
+
+/**
+ * 업로드 행을 주문으로 묶는 방식
+ */
+public enum OrderGrouping {
+    ROW,      // 행마다 단건 주문 생성 (기본값)
+    CUSTOMER  // 고객(+ 주문 참조번호)별로 행을 합쳐 하나의 주문 생성
+}
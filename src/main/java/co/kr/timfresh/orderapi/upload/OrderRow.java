@@ -0,0 +1,24 @@
+package co.kr.timfresh.orderapi.upload;
+
+import lombok.Getter;
+
+/**
+ * 업로드 파일의 주문 한 행 (고객 ID, 상품 ID, 수량, 선택 항목인 주문 참조번호)
+ */
+@Getter
+public class OrderRow {
+
+    private final int rowNumber; // 파일 기준 행 번호 (1부터 시작, 오류 메시지용)
+    private final long customerId;
+    private final long productId;
+    private final int quantity;
+    private final String orderRef; // 같은 고객의 행을 여러 주문으로 나눌 때 사용 (없으면 null)
+
+    public OrderRow(int rowNumber, long customerId, long productId, int quantity, String orderRef) {
+        this.rowNumber = rowNumber;
+        this.customerId = customerId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.orderRef = orderRef;
+    }
+}
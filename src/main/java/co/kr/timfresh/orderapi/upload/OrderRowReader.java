@@ -0,0 +1,18 @@
+package co.kr.timfresh.orderapi.upload;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 파일을 읽어 주문 행 단위로 전달하는 리더
+ */
+public interface OrderRowReader {
+
+    /**
+     * 파일을 앞에서부터 읽으며 헤더를 제외한 각 행을 consumer 에 전달
+     *
+     * @param file     읽을 파일
+     * @param consumer 행을 전달받을 콜백
+     */
+    void read(Path file, Consumer<OrderRow> consumer);
+}
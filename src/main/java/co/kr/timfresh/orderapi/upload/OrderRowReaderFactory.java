@@ -0,0 +1,62 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import co.kr.timfresh.orderapi.exception.UnsupportedFileTypeException;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 파일 시그니처를 보고 알맞은 {@link OrderRowReader} 를 선택
+ * <p>
+ * 엑셀 시그니처가 아닌 텍스트 파일은 첫 글자가 '{' 이면 NDJSON, 그 외는 CSV 로 본다.
+ * (브라우저가 CSV 를 application/vnd.ms-excel 로 보내는 경우가 있어 Content-Type 대신 내용으로 판단)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderRowReaderFactory {
+
+    private static final int UTF8_BOM_FIRST_BYTE = 0xEF;
+
+    private final XlsxOrderRowReader xlsxOrderRowReader;
+    private final XlsOrderRowReader xlsOrderRowReader;
+    private final CsvOrderRowReader csvOrderRowReader;
+    private final NdjsonOrderRowReader ndjsonOrderRowReader;
+
+    public OrderRowReader getReader(Path file) {
+        FileMagic fileMagic;
+        try {
+            fileMagic = FileMagic.valueOf(file.toFile());
+        } catch (IOException e) {
+            throw new ExcelProcessingException("엑셀 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+
+        return switch (fileMagic) {
+            case OOXML -> xlsxOrderRowReader;
+            case OLE2 -> xlsOrderRowReader;
+            case UNKNOWN -> getTextReader(file);
+            default -> throw new UnsupportedFileTypeException("지원하지 않는 파일 형식입니다.");
+        };
+    }
+
+    private OrderRowReader getTextReader(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == UTF8_BOM_FIRST_BYTE) {
+                    in.skipNBytes(2);
+                } else if (!Character.isWhitespace(b)) {
+                    return b == '{' ? ndjsonOrderRowReader : csvOrderRowReader;
+                }
+            }
+            return csvOrderRowReader;
+        } catch (IOException e) {
+            throw new ExcelProcessingException("주문 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * 구형 .xls(BIFF) 파일 리더
+ * <p>
+ * .xls 는 시트당 65,536행으로 제한되므로 usermodel 로 읽어도 메모리 사용량에 상한이 있다.
+ */
+@Component
+public class XlsOrderRowReader implements OrderRowReader {
+
+    @Override
+    public void read(Path file, Consumer<OrderRow> consumer) {
+        try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+            DataFormatter dataFormatter = new DataFormatter();
+            Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                if (row.getRowNum() == 0) continue; // 첫 번째 행(헤더) 스킵
+
+                int rowNumber = row.getRowNum() + 1;
+                consumer.accept(new OrderRow(
+                        rowNumber,
+                        toLong(row.getCell(0), rowNumber, "고객 ID"),
+                        toLong(row.getCell(1), rowNumber, "상품 ID"),
+                        (int) toLong(row.getCell(2), rowNumber, "수량"),
+                        CellValues.toOptionalText(dataFormatter.formatCellValue(row.getCell(3)))
+                ));
+            }
+        } catch (IOException e) {
+            throw new ExcelProcessingException("엑셀 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private long toLong(Cell cell, int rowNumber, String columnName) {
+        if (cell != null && (cell.getCellType() == CellType.NUMERIC
+                || (cell.getCellType() == CellType.FORMULA && cell.getCachedFormulaResultType() == CellType.NUMERIC))) {
+            return (long) cell.getNumericCellValue();
+        }
+        return CellValues.toLong(cell != null && cell.getCellType() == CellType.STRING ? cell.getStringCellValue() : null,
+                rowNumber, columnName);
+    }
+}
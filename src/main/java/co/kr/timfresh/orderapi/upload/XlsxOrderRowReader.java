@@ -0,0 +1,165 @@
+package co.kr.timfresh.orderapi.upload;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * .xlsx 파일을 XSSF 이벤트 모델(SAX)로 읽는 리더
+ * <p>
+ * 워크북 전체를 DOM 으로 올리지 않고 디스크의 패키지에서 시트 XML 을 순차적으로 읽으므로,
+ * 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Component
+public class XlsxOrderRowReader implements OrderRowReader {
+
+    @Override
+    public void read(Path file, Consumer<OrderRow> consumer) {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            Iterator<InputStream> sheets = new XSSFReader(pkg).getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new ExcelProcessingException("엑셀 파일에 시트가 없습니다.");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new SheetHandler(sharedStrings, consumer));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new ExcelProcessingException("엑셀 파일을 처리하는 중 오류가 발생했습니다.");
+        } finally {
+            if (pkg != null) {
+                pkg.revert(); // 읽기 전용 패키지는 저장 없이 닫음
+            }
+        }
+    }
+
+    /**
+     * 시트 XML 의 row / c / v 요소를 따라가며 앞의 네 열(고객 ID, 상품 ID, 수량, 주문 참조번호)만 수집
+     */
+    private static class SheetHandler extends DefaultHandler {
+
+        private static final int COLUMN_COUNT = 4;
+        private static final String[] COLUMN_NAMES = {"고객 ID", "상품 ID", "수량"};
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final Consumer<OrderRow> consumer;
+        private final String[] values = new String[COLUMN_COUNT];
+        private final StringBuilder text = new StringBuilder();
+
+        private int rowNumber;
+        private int column = -1;
+        private String cellType;
+        private boolean collecting;
+
+        SheetHandler(ReadOnlySharedStringsTable sharedStrings, Consumer<OrderRow> consumer) {
+            this.sharedStrings = sharedStrings;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String ref = attributes.getValue("r");
+                    rowNumber = ref != null ? Integer.parseInt(ref) : rowNumber + 1;
+                    column = -1;
+                    Arrays.fill(values, null);
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    column = ref != null ? columnIndex(ref) : column + 1;
+                    cellType = attributes.getValue("t");
+                }
+                case "v", "t" -> {
+                    collecting = true;
+                    text.setLength(0);
+                }
+                default -> {
+                    // 그 외 요소는 무시
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collecting) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "t" -> {
+                    collecting = false;
+                    if (column >= 0 && column < COLUMN_COUNT) {
+                        values[column] = "s".equals(cellType)
+                                ? sharedStrings.getItemAt(Integer.parseInt(text.toString())).getString()
+                                : text.toString();
+                    }
+                }
+                case "row" -> {
+                    if (rowNumber > 1 && hasAnyValue()) { // 첫 번째 행(헤더) 및 빈 행 스킵
+                        consumer.accept(new OrderRow(
+                                rowNumber,
+                                CellValues.toLong(values[0], rowNumber, COLUMN_NAMES[0]),
+                                CellValues.toLong(values[1], rowNumber, COLUMN_NAMES[1]),
+                                (int) CellValues.toLong(values[2], rowNumber, COLUMN_NAMES[2]),
+                                CellValues.toOptionalText(values[3])
+                        ));
+                    }
+                }
+                default -> {
+                    // 그 외 요소는 무시
+                }
+            }
+        }
+
+        private boolean hasAnyValue() {
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 셀 참조("B12")에서 0부터 시작하는 열 번호를 계산
+         */
+        private static int columnIndex(String cellReference) {
+            int index = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                index = index * 26 + (c - 'A' + 1);
+            }
+            return index - 1;
+        }
+    }
+}
@@ -1,29 +1,129 @@
 package co.kr.timfresh.orderapi.util;
 
-import lombok.experimental.UtilityClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
-@UtilityClass
-public final class OrderNumberGenerator {
+/**
+ * 시간순으로 정렬되는 주문번호 생성기 (Snowflake 방식)
+ * <p>
+ * 형식: {@code yyyyMMdd-HHmmss-SSS-NNNQQQ} (NNN: 노드 ID, QQQ: 같은 밀리초 안의 순번, 모두 16진수 3자리)
+ * <ul>
+ *     <li>노드 ID(order.number.node-id)를 인스턴스마다 다르게 주면 여러 서버에서도 겹치지 않는다.</li>
+ *     <li>마지막 밀리초와 순번을 하나의 long 에 담아 CAS 로 갱신하므로 락 없이 단조 증가한다.</li>
+ *     <li>한 밀리초의 순번(4096개)을 다 쓰거나 시계가 뒤로 가면 다음 밀리초를 미리 사용한다.</li>
+ *     <li>날짜 부분은 초 단위로 캐시하여 호출마다 포맷하지 않는다.</li>
+ *     <li>날짜/시각은 서버 시간대가 아니라 order.number.zone 기준이다. 일광 절약 시간이 있는 시간대는
+ *     시각이 되돌아갈 때 주문번호 정렬이 시간순과 어긋나므로 UTC 나 Asia/Seoul 같은 시간대를 사용한다.</li>
+ * </ul>
+ */
+@Component
+public class OrderNumberGenerator {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int MAX_NODE_ID = 0xFFF;
+    private static final DateTimeFormatter SECOND_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-");
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final int LENGTH = 26;
+
+    private final int nodeId;
+    private final Clock clock;
+    private final AtomicLong state = new AtomicLong();
+    private volatile SecondPrefix secondPrefix = new SecondPrefix(Long.MIN_VALUE, "");
+
+    @Autowired
+    public OrderNumberGenerator(@Value("${order.number.node-id:0}") int nodeId,
+                                @Value("${order.number.zone:Asia/Seoul}") ZoneId zone) {
+        this(nodeId, Clock.system(zone));
+    }
+
+    public OrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.number.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. (현재: " + nodeId + ")");
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
 
     /**
-     * UUID + 날짜 기반 고유한 주문번호 생성
+     * 주문번호의 날짜/시각 기준 시간대
+     */
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * 날짜 + 노드 ID + 순번 기반 고유한 주문번호 생성
      */
     public String generateOrderNumber() {
-        return generateOrderNumber(LocalDateTime.now());
+        long next = nextState();
+        long millis = next >>> SEQUENCE_BITS;
+        int sequence = (int) (next & SEQUENCE_MASK);
+
+        char[] chars = new char[LENGTH];
+        prefixOf(millis / 1000).getChars(0, 16, chars, 0);
+        int millisOfSecond = (int) (millis % 1000);
+        chars[16] = (char) ('0' + millisOfSecond / 100);
+        chars[17] = (char) ('0' + millisOfSecond / 10 % 10);
+        chars[18] = (char) ('0' + millisOfSecond % 10);
+        chars[19] = '-';
+        writeHex(chars, 20, nodeId);
+        writeHex(chars, 23, sequence);
+        return new String(chars);
     }
 
     /**
-     * 테스트를 용이하게 하기 위해 LocalDateTime을 주입할 수 있도록 오버로딩 메서드 추가
+     * (밀리초 << 12 | 순번) 을 CAS 로 증가
      */
-    public String generateOrderNumber(LocalDateTime dateTime) {
-        String timestamp = dateTime.format(FORMATTER);
-        String uuidShort = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase(); // 12자리 사용
-        return timestamp + "-" + uuidShort;
+    private long nextState() {
+        long now = clock.millis();
+        while (true) {
+            long current = state.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = current + 1;
+            } else {
+                next = (lastMillis + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * "yyyyMMdd-HHmmss-" 부분 (같은 초 안에서는 캐시된 값 사용)
+     */
+    private String prefixOf(long epochSecond) {
+        SecondPrefix cached = secondPrefix;
+        if (cached.epochSecond() == epochSecond) {
+            return cached.text();
+        }
+
+        String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone()).format(SECOND_FORMATTER);
+        secondPrefix = new SecondPrefix(epochSecond, text);
+        return text;
+    }
+
+    private static void writeHex(char[] chars, int offset, int value) {
+        chars[offset] = HEX_DIGITS[(value >>> 8) & 0xF];
+        chars[offset + 1] = HEX_DIGITS[(value >>> 4) & 0xF];
+        chars[offset + 2] = HEX_DIGITS[value & 0xF];
+    }
+
+    private record SecondPrefix(long epochSecond, String text) {
     }
 }
@@ -0,0 +1,39 @@
+package co.kr.timfresh.orderapi.util;
+
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@UtilityClass
+public final class TempFileUtils {
+
+    /**
+     * 업로드 파일을 임시 파일로 저장 (스트리밍 파서가 디스크에서 직접 읽을 수 있도록)
+     */
+    public Path store(MultipartFile file) {
+        try {
+            Path tempFile = Files.createTempFile("order-upload-", ".tmp");
+            file.transferTo(tempFile);
+            return tempFile;
+        } catch (IOException e) {
+            throw new ExcelProcessingException("업로드 파일을 저장하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 임시 파일 삭제 (실패해도 예외를 던지지 않음)
+     */
+    public void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package co.kr.timfresh.orderapi.catalog;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import co.kr.timfresh.orderapi.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:catalog-cache-test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CatalogCacheTest {
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 상품_정보_캐시_적중() {
+        // Given
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 10)).getId();
+
+        // When
+        catalogCache.getProduct(productId);
+        ProductInfo productInfo = catalogCache.getProduct(productId).orElseThrow();
+
+        // Then: 두 번째 조회는 캐시에서 읽음
+        assertEquals(0, new BigDecimal("1000").compareTo(productInfo.getPrice()));
+        assertEquals(1, catalogCache.getProductStats().missCount());
+        assertEquals(1, catalogCache.getProductStats().hitCount());
+    }
+
+    @Test
+    void 여러_상품_일괄_조회_시_없는_상품_제외() {
+        // Given
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 10)).getId();
+
+        // When
+        Map<Long, ProductInfo> products = catalogCache.getProducts(List.of(productId, 999_999L));
+
+        // Then
+        assertEquals(1, products.size());
+        assertTrue(products.containsKey(productId));
+        assertTrue(catalogCache.getProduct(999_999L).isEmpty());
+    }
+
+    @Test
+    void 가격_변경_시_캐시_무효화() {
+        // Given: 이전 가격이 캐시된 상태
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 10)).getId();
+        catalogCache.getProduct(productId);
+
+        // When
+        productService.changePrice(productId, new BigDecimal("1500"));
+
+        // Then: 새 가격으로 조회되고 주문에도 반영됨
+        assertEquals(0, new BigDecimal("1500").compareTo(catalogCache.getProduct(productId).orElseThrow().getPrice()));
+        OrderResponseDto responseDto = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 2))));
+        assertEquals(0, new BigDecimal("3000").compareTo(responseDto.getOrderItems().get(0).getPrice()));
+        assertEquals("테스트 고객", responseDto.getCustomerName());
+    }
+
+    @Test
+    void 적재_중_무효화되면_이전_값을_다시_넣지_않음() throws Exception {
+        // Given: 이전 가격을 읽은 뒤 멈추는 적재 (가격 변경 커밋 전에 시작해 무효화 뒤에 끝나는 적재)
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 10)).getId();
+        AtomicBoolean pauseNextLoad = new AtomicBoolean(true);
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ProductRepository pausingRepository = (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(productRepository, args);
+                        if (method.getName().equals("findInfosByIdIn") && pauseNextLoad.compareAndSet(true, false)) {
+                            loaded.countDown();
+                            resume.await();
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        CatalogCache cache = new CatalogCache(pausingRepository, customerRepository, 100, Duration.ofMinutes(10));
+
+        CompletableFuture<ProductInfo> staleLoad = CompletableFuture.supplyAsync(() -> cache.getProduct(productId).orElseThrow());
+        loaded.await();
+
+        // When: 적재가 끝나기 전에 가격 변경 커밋 후 무효화
+        productService.changePrice(productId, new BigDecimal("1500"));
+        cache.evictProduct(productId);
+        resume.countDown();
+
+        // Then: 먼저 시작한 조회만 이전 가격을 받고, 이후 조회는 새 가격
+        assertEquals(0, new BigDecimal("1000").compareTo(staleLoad.get().getPrice()));
+        assertEquals(0, new BigDecimal("1500").compareTo(cache.getProduct(productId).orElseThrow().getPrice()));
+    }
+}
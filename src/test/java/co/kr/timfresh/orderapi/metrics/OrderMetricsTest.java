@@ -0,0 +1,96 @@
+package co.kr.timfresh.orderapi.metrics;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderExcelService;
+import co.kr.timfresh.orderapi.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order-metrics-test")
+@DirtiesContext
+class OrderMetricsTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExcelService orderExcelService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 주문_생성_구간별_지표_기록() {
+        // Given
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(1000), 1)).getId();
+        long created = meterRegistry.get("order.create").timer().count();
+        long persisted = meterRegistry.get("order.create.phase").tag("phase", "persist").timer().count();
+        long stockDecrements = meterRegistry.get("order.create.phase").tag("phase", "stock_decrement").timer().count();
+        long lockWaits = meterRegistry.get("order.stock.lock.wait").timer().count();
+        double insufficientStock = failures("InsufficientStockException");
+
+        // When: 성공 1건, 재고 부족 1건
+        orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+        assertThrows(InsufficientStockException.class,
+                () -> orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1)))));
+
+        // Then
+        assertEquals(created + 1, meterRegistry.get("order.create").timer().count());
+        assertEquals(persisted + 1, meterRegistry.get("order.create.phase").tag("phase", "persist").timer().count(), "커밋된 트랜잭션만 기록");
+        assertEquals(stockDecrements + 2, meterRegistry.get("order.create.phase").tag("phase", "stock_decrement").timer().count());
+        assertEquals(lockWaits + 2, meterRegistry.get("order.stock.lock.wait").timer().count());
+        assertEquals(insufficientStock + 1, failures("InsufficientStockException"));
+    }
+
+    @Test
+    void 동기_업로드는_커밋된_행과_실패한_행을_기록() {
+        // Given: 첫 행은 성공하지만 둘째 행에서 재고가 부족한 파일 (같은 청크)
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(1000), 1)).getId();
+        String csv = "Customer ID,Product ID,Quantity\n"
+                + customerId + "," + productId + ",1\n"
+                + customerId + "," + productId + ",1\n";
+        MockMultipartFile file = new MockMultipartFile("file", "orders.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        long created = meterRegistry.get("order.create").timer().count();
+        double createdRows = meterRegistry.get("order.import.rows").tag("result", "created").counter().count();
+        double failedRows = meterRegistry.get("order.import.rows").tag("result", "failed").counter().count();
+        double insufficientStock = failures("InsufficientStockException");
+
+        // When
+        orderExcelService.processExcelOrders(file);
+
+        // Then: 청크가 롤백된 뒤 주문별로 다시 실행하므로, 롤백된 첫 시도는 생성/실패로 세지 않음
+        assertEquals(created + 1, meterRegistry.get("order.create").timer().count());
+        assertEquals(insufficientStock + 1, failures("InsufficientStockException"));
+        assertEquals(createdRows + 1, meterRegistry.get("order.import.rows").tag("result", "created").counter().count());
+        assertEquals(failedRows + 1, meterRegistry.get("order.import.rows").tag("result", "failed").counter().count());
+    }
+
+    private double failures(String exception) {
+        return meterRegistry.counter("order.create.failures", "exception", exception).count();
+    }
+}
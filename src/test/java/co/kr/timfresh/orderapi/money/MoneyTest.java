@@ -0,0 +1,40 @@
+package co.kr.timfresh.orderapi.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void BigDecimal_변환은_소수점_둘째_자리로_반올림() {
+        assertEquals(1290050, Money.of(new BigDecimal("12900.5")).getMinorUnits());
+        assertEquals(1, Money.of(new BigDecimal("0.005")).getMinorUnits());
+        assertEquals(0, Money.of(new BigDecimal("0.004")).getMinorUnits());
+        assertEquals(-1, Money.of(new BigDecimal("-0.005")).getMinorUnits());
+        assertEquals(new BigDecimal("12900.50"), Money.ofMinorUnits(1290050).toBigDecimal());
+    }
+
+    @Test
+    void 비율_적용은_HALF_UP_반올림() {
+        assertEquals(5, Money.ofMinorUnits(5).applyRate(9_000).getMinorUnits());   // 0.045 -> 0.05
+        assertEquals(4, Money.ofMinorUnits(4).applyRate(9_000).getMinorUnits());   // 0.036 -> 0.04
+        assertEquals(-5, Money.ofMinorUnits(-5).applyRate(9_000).getMinorUnits()); // -0.045 -> -0.05
+        assertEquals(150, Money.ofMinorUnits(300).applyRate(5_000).getMinorUnits());
+    }
+
+    @Test
+    void 문자열은_BigDecimal_toPlainString_과_동일() {
+        for (long minorUnits : new long[]{0, 1, 9, 10, 99, 100, 1290050, -1, -99, -100, -1290050, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(BigDecimal.valueOf(minorUnits, Money.SCALE).toPlainString(), Money.ofMinorUnits(minorUnits).toPlainString());
+        }
+    }
+
+    @Test
+    void long_범위를_넘으면_예외() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinorUnits(Long.MAX_VALUE).times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+30")));
+    }
+}
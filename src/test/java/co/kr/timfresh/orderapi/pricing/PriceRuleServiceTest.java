@@ -0,0 +1,148 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.dto.PriceRuleDto;
+import co.kr.timfresh.orderapi.dto.PriceRuleRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.DuplicatePriceRuleException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.PriceRuleRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:price-rule-test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PriceRuleServiceTest {
+
+    @Autowired
+    private PriceRuleService priceRuleService;
+
+    @Autowired
+    private PriceRuleEngine priceRuleEngine;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceRuleRepository priceRuleRepository;
+
+    @Test
+    void 규칙_등록_후_주문_가격에_바로_반영() {
+        // Given: VIP 고객, 10개 이상 주문 시 5% 추가 할인
+        Long customerId = customerRepository.save(Customer.create("VIP 고객", "서울시 강남구", CustomerType.VIP)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 100)).getId();
+
+        // When
+        priceRuleService.createRule(new PriceRuleRequestDto(productId, CustomerType.VIP, 10, 500));
+        OrderResponseDto small = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 9))));
+        OrderResponseDto large = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 10))));
+
+        // Then: VIP 10% 할인 후 규칙 할인 적용 (9 * 1000 * 0.9 = 8100, 10 * 1000 * 0.9 * 0.95 = 8550)
+        assertEquals(1, priceRuleEngine.current().getRuleCount());
+        assertEquals(new BigDecimal("8100.00"), small.getOrderItems().get(0).getPrice());
+        assertEquals(new BigDecimal("8550.00"), large.getOrderItems().get(0).getPrice());
+    }
+
+    @Test
+    void 규칙_삭제_후_할인_해제() {
+        // Given
+        Long customerId = customerRepository.save(Customer.create("일반 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 100)).getId();
+        PriceRuleDto rule = priceRuleService.createRule(new PriceRuleRequestDto(null, null, 1, 1_000));
+
+        // When
+        priceRuleService.deleteRule(rule.getId());
+        OrderResponseDto responseDto = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 2))));
+
+        // Then
+        assertEquals(0, priceRuleEngine.current().getRuleCount());
+        assertEquals(new BigDecimal("2000.00"), responseDto.getOrderItems().get(0).getPrice());
+    }
+
+    @Test
+    void 같은_대상과_수량_구간의_규칙은_중복_등록_불가() {
+        // Given
+        priceRuleService.createRule(new PriceRuleRequestDto(null, CustomerType.VIP, 5, 300));
+
+        // When & Then
+        assertThrows(DuplicatePriceRuleException.class,
+                () -> priceRuleService.createRule(new PriceRuleRequestDto(null, CustomerType.VIP, 5, 500)));
+        assertThrows(ProductNotFoundException.class,
+                () -> priceRuleService.createRule(new PriceRuleRequestDto(999L, null, 1, 500)));
+        assertEquals(1, priceRuleService.getRules().size());
+    }
+
+    @Test
+    void 비어_있는_대상의_중복_규칙은_DB_에서_거부() {
+        // Given
+        priceRuleRepository.saveAndFlush(PriceRule.create(null, null, 1, 300));
+
+        // When & Then: 상품/고객 유형이 NULL 이어도 유니크 제약에 걸림
+        assertThrows(DataIntegrityViolationException.class,
+                () -> priceRuleRepository.saveAndFlush(PriceRule.create(null, null, 1, 500)));
+        assertDoesNotThrow(() -> priceRuleRepository.saveAndFlush(PriceRule.create(null, CustomerType.VIP, 1, 500)));
+    }
+
+    @Test
+    void 같은_규칙_동시_등록은_하나만_성공() throws Exception {
+        // Given
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<PriceRuleDto>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return priceRuleService.createRule(new PriceRuleRequestDto(null, null, 3, 200));
+                }));
+            }
+            start.countDown();
+
+            // Then: 나머지는 확인 단계나 유니크 제약에서 모두 DuplicatePriceRuleException
+            int created = 0;
+            for (Future<PriceRuleDto> result : results) {
+                try {
+                    result.get();
+                    created++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(DuplicatePriceRuleException.class, e.getCause());
+                }
+            }
+            assertEquals(1, created);
+            assertEquals(1, priceRuleService.getRules().size());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
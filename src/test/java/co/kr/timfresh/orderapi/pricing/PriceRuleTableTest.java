@@ -0,0 +1,69 @@
+package co.kr.timfresh.orderapi.pricing;
+
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.PriceRule;
+import co.kr.timfresh.orderapi.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceRuleTableTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long OTHER_PRODUCT_ID = 2L;
+
+    @Test
+    void 규칙이_없으면_할인_없음() {
+        assertEquals(PriceRuleTable.FULL_RATE, PriceRuleTable.EMPTY.rateOf(PRODUCT_ID, CustomerType.VIP, 100));
+        Money price = Money.ofMinorUnits(12345);
+        assertSame(price, PriceRuleTable.EMPTY.apply(PRODUCT_ID, CustomerType.VIP, 100, price));
+    }
+
+    @Test
+    void 수량_구간은_조건을_만족하는_가장_큰_구간() {
+        // Given: 10개 이상 5%, 100개 이상 10%
+        PriceRuleTable table = PriceRuleTable.compile(List.of(
+                PriceRule.create(PRODUCT_ID, null, 100, 1_000),
+                PriceRule.create(PRODUCT_ID, null, 10, 500)));
+
+        // Then
+        assertEquals(10_000, table.rateOf(PRODUCT_ID, CustomerType.DEFAULT, 9));
+        assertEquals(9_500, table.rateOf(PRODUCT_ID, CustomerType.DEFAULT, 10));
+        assertEquals(9_500, table.rateOf(PRODUCT_ID, CustomerType.DEFAULT, 99));
+        assertEquals(9_000, table.rateOf(PRODUCT_ID, CustomerType.VIP, 100));
+        assertEquals(9_000, table.rateOf(PRODUCT_ID, CustomerType.VIP, Integer.MAX_VALUE));
+        assertEquals(10_000, table.rateOf(OTHER_PRODUCT_ID, CustomerType.DEFAULT, 100), "다른 상품에는 적용하지 않음");
+    }
+
+    @Test
+    void 더_구체적인_규칙이_우선() {
+        // Given: 전체 1개 이상 1%, VIP 1개 이상 3%, 상품 50개 이상 5%, 상품 + VIP 50개 이상 7%
+        PriceRuleTable table = PriceRuleTable.compile(List.of(
+                PriceRule.create(null, null, 1, 100),
+                PriceRule.create(null, CustomerType.VIP, 1, 300),
+                PriceRule.create(PRODUCT_ID, null, 50, 500),
+                PriceRule.create(PRODUCT_ID, CustomerType.VIP, 50, 700)));
+
+        // Then: 상품 규칙의 수량 조건을 만족하지 못하면 다음 단계 규칙 적용
+        assertEquals(9_900, table.rateOf(PRODUCT_ID, CustomerType.DEFAULT, 49));
+        assertEquals(9_500, table.rateOf(PRODUCT_ID, CustomerType.DEFAULT, 50));
+        assertEquals(9_700, table.rateOf(PRODUCT_ID, CustomerType.VIP, 49));
+        assertEquals(9_300, table.rateOf(PRODUCT_ID, CustomerType.VIP, 50));
+        assertEquals(9_900, table.rateOf(OTHER_PRODUCT_ID, CustomerType.DEFAULT, 50));
+        assertEquals(9_700, table.rateOf(OTHER_PRODUCT_ID, CustomerType.VIP, 50));
+    }
+
+    @Test
+    void 할인_적용은_HALF_UP_반올림() {
+        // Given: 전체 3% 할인
+        PriceRuleTable table = PriceRuleTable.compile(List.of(PriceRule.create(null, null, 1, 300)));
+
+        // When: 10.05 * 0.97 = 9.7485
+        Money price = table.apply(PRODUCT_ID, CustomerType.DEFAULT, 1, Money.ofMinorUnits(1005));
+
+        // Then
+        assertEquals(975, price.getMinorUnits());
+    }
+}
@@ -0,0 +1,163 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.IdempotencyKeyConflictException;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.IdempotencyKeyRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.stock.StockBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idempotent-order-test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class IdempotentOrderServiceTest {
+
+    @Autowired
+    private IdempotentOrderService idempotentOrderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private StockBucketService stockBucketService;
+
+    private Long customerId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(1000), 10)).getId();
+    }
+
+    @Test
+    void 같은_키_재요청은_저장된_응답_반환() {
+        // When
+        IdempotentOrderResult first = idempotentOrderService.createOrder("key-1", request(2));
+        IdempotentOrderResult replay = idempotentOrderService.createOrder("key-1", request(2));
+
+        // Then: 주문 1건, 재고는 한 번만 차감
+        assertFalse(first.isReplayed());
+        assertTrue(replay.isReplayed());
+        assertEquals(first.getResponse().getOrderNumber(), replay.getResponse().getOrderNumber());
+        assertEquals(1, orderRepository.count());
+        assertEquals(8, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void 재시작_후에도_테이블에서_응답_반환() {
+        // Given: 메모리 캐시가 비워진 상태 (재시작)
+        String orderNumber = idempotentOrderService.createOrder("key-1", request(2)).getResponse().getOrderNumber();
+        idempotentOrderService.evictAll();
+
+        // When
+        IdempotentOrderResult replay = idempotentOrderService.createOrder("key-1", request(2));
+
+        // Then
+        assertTrue(replay.isReplayed());
+        assertEquals(orderNumber, replay.getResponse().getOrderNumber());
+        assertEquals(2, replay.getResponse().getOrderItems().get(0).getQuantity());
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    void 재고_차감이_영속성_컨텍스트를_비워도_주문번호_저장() {
+        // Given: 버킷 재고는 조건부 UPDATE(clearAutomatically)로 차감
+        stockBucketService.configureBuckets(productId, 2);
+        String orderNumber = idempotentOrderService.createOrder("key-1", request(2)).getResponse().getOrderNumber();
+        idempotentOrderService.evictAll();
+
+        // When
+        IdempotentOrderResult replay = idempotentOrderService.createOrder("key-1", request(2));
+
+        // Then
+        assertEquals(orderNumber, idempotencyKeyRepository.findById("key-1").orElseThrow().getOrderNumber());
+        assertTrue(replay.isReplayed());
+        assertEquals(orderNumber, replay.getResponse().getOrderNumber());
+        assertEquals(1, orderRepository.count());
+        assertEquals(8, stockBucketService.getStock(productId).getTotalStock());
+    }
+
+    @Test
+    void 같은_키_다른_요청_실패() {
+        idempotentOrderService.createOrder("key-1", request(2));
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> idempotentOrderService.createOrder("key-1", request(3)));
+        assertEquals(8, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void 실패한_요청의_키는_남지_않음() {
+        // Given: 재고 부족으로 실패
+        assertThrows(InsufficientStockException.class, () -> idempotentOrderService.createOrder("key-1", request(11)));
+
+        // Then: 키가 저장되지 않아 같은 키로 다시 시도할 수 있음
+        assertFalse(idempotencyKeyRepository.existsById("key-1"));
+        assertThrows(InsufficientStockException.class, () -> idempotentOrderService.createOrder("key-1", request(11)));
+    }
+
+    @Test
+    void 동시_중복_요청은_한_번만_실행() throws InterruptedException {
+        // Given
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+
+        // When: 같은 키로 동시에 요청
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    orderNumbers.add(idempotentOrderService.createOrder("key-1", request(1)).getResponse().getOrderNumber());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(1, orderNumbers.size(), "모든 요청이 같은 주문을 받아야 함");
+        assertEquals(1, orderRepository.count());
+        assertEquals(9, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    private OrderRequestDto request(int quantity) {
+        return new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, quantity)));
+    }
+}
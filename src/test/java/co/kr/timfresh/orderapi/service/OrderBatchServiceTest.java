@@ -0,0 +1,95 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderBatchResponseDto;
+import co.kr.timfresh.orderapi.dto.OrderBatchResultDto;
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InvalidOrderBatchException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-batch-test",
+        "order.batch.max-size=5"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OrderBatchServiceTest {
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Long customerId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(1000), 3)).getId();
+    }
+
+    @Test
+    void 일부_실패해도_나머지_주문_생성() {
+        // Given: 정상, 수량 0, 없는 고객, 재고 부족, 정상
+        List<OrderRequestDto> requestDtos = new ArrayList<>();
+        requestDtos.add(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+        requestDtos.add(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 0))));
+        requestDtos.add(new OrderRequestDto(999_999L, List.of(new OrderItemDto(productId, 1))));
+        requestDtos.add(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 10))));
+        requestDtos.add(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 2))));
+
+        // When
+        OrderBatchResponseDto response = orderBatchService.createOrders(requestDtos);
+
+        // Then
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(3, response.getFailedCount());
+        List<OrderBatchResultDto> results = response.getResults();
+        assertEquals(OrderBatchResultDto.Status.CREATED, results.get(0).getStatus());
+        assertEquals("수량은 최소 1개 이상이어야 합니다.", results.get(1).getError());
+        assertTrue(results.get(2).getError().contains("999999"));
+        assertTrue(results.get(3).getError().startsWith("재고가 부족합니다."));
+        assertEquals(OrderBatchResultDto.Status.CREATED, results.get(4).getStatus());
+        assertEquals(4, results.get(4).getIndex());
+
+        assertEquals(2, orderRepository.count());
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockQuantity(), "생성된 주문만큼만 재고가 차감되어야 함");
+    }
+
+    @Test
+    void 최대_건수_초과_실패() {
+        List<OrderRequestDto> requestDtos = Collections.nCopies(6, new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+
+        assertThrows(InvalidOrderBatchException.class, () -> orderBatchService.createOrders(requestDtos));
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    void 빈_요청_실패() {
+        assertThrows(InvalidOrderBatchException.class, () -> orderBatchService.createOrders(List.of()));
+    }
+}
@@ -2,10 +2,12 @@ package co.kr.timfresh.orderapi.service;
 
 import co.kr.timfresh.orderapi.dto.OrderResponseDto;
 import co.kr.timfresh.orderapi.entity.*;
-import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.ExcelProcessingException;
 import co.kr.timfresh.orderapi.repository.CustomerRepository;
 import co.kr.timfresh.orderapi.repository.OrderRepository;
 import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.upload.OrderGrouping;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -15,19 +17,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.test.annotation.Commit;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.annotation.DirtiesContext;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
-@Transactional
+@SpringBootTest(properties = {
+        "order.import.chunk-size=2",
+        "spring.datasource.url=jdbc:h2:mem:order-excel-test" // 청크마다 커밋하므로 별도 DB 사용
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class OrderExcelServiceTest {
 
     @Autowired
@@ -61,16 +66,18 @@ class OrderExcelServiceTest {
     @Test
     void 주문_엑셀_처리_성공() {
         // When
-        List<OrderResponseDto> responses = orderExcelService.processExcelOrders(validExcelFile);
+        OrderUploadResult result = orderExcelService.processExcelOrders(validExcelFile);
 
         // Then
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
+        assertNotNull(result);
+        assertEquals(1, result.getOrders().size());
+        assertEquals(1, result.getCreatedOrderCount());
+        assertEquals(0, result.getFailedRowCount());
 
-        OrderResponseDto response = responses.get(0);
+        OrderResponseDto response = result.getOrders().get(0);
         assertNotNull(response.getOrderNumber());
 
-        Optional<Order> savedOrder = orderRepository.findById(response.getOrderNumber());
+        Optional<Order> savedOrder = orderRepository.findWithCustomerAndItemsByOrderNumber(response.getOrderNumber());
         assertTrue(savedOrder.isPresent(), "주문이 실제 DB에 저장되어야 함");
 
         Order order = savedOrder.get();
@@ -82,6 +89,106 @@ class OrderExcelServiceTest {
         assertEquals(2, orderItem.getQuantity(), "주문 수량이 일치해야 함");
     }
 
+    @Test
+    void 주문_엑셀_처리_성공_xls() throws IOException {
+        // Given: 구형 .xls 형식의 파일
+        MockMultipartFile xlsFile = createExcelFile(new HSSFWorkbook(), "orders.xls", "application/vnd.ms-excel",
+                List.of(new long[]{customerId, productId, 2}));
+
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(xlsFile);
+
+        // Then
+        assertEquals(1, result.getOrders().size());
+        assertEquals(8, productRepository.findById(productId).orElseThrow().getStockQuantity(), "재고가 차감되어야 함");
+    }
+
+    @Test
+    void 주문_CSV_처리_성공() {
+        // Given: BOM, 따옴표로 감싼 주문 참조번호, CRLF 가 섞인 CSV
+        String csv = "\uFEFFCustomer ID,Product ID,Quantity,Order Ref\r\n"
+                + customerId + "," + productId + ",2,\"A,1\"\r\n"
+                + "\r\n"
+                + customerId + "," + productId + ",1.0,\r\n";
+        MockMultipartFile file = new MockMultipartFile("file", "orders.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(file, OrderGrouping.CUSTOMER);
+
+        // Then: 주문 참조번호("A,1" / 없음)별로 2개의 주문
+        assertEquals(2, result.getOrders().size());
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getStockQuantity(), "재고가 차감되어야 함");
+    }
+
+    @Test
+    void 주문_NDJSON_처리_성공() {
+        // Given
+        String ndjson = "{\"customerId\":" + customerId + ",\"productId\":" + productId + ",\"quantity\":2}\n"
+                + "{\"customerId\":\"" + customerId + "\",\"productId\":" + productId + ",\"quantity\":1,\"memo\":{\"a\":1}}\n";
+        MockMultipartFile file = new MockMultipartFile("file", "orders.ndjson", "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(file);
+
+        // Then
+        assertEquals(2, result.getOrders().size());
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getStockQuantity(), "재고가 차감되어야 함");
+    }
+
+    @Test
+    void 주문_NDJSON_필수_항목_누락_실패() {
+        // Given: 두 번째 줄에 수량 없음
+        String ndjson = "{\"customerId\":" + customerId + ",\"productId\":" + productId + ",\"quantity\":2}\n"
+                + "{\"customerId\":" + customerId + ",\"productId\":" + productId + "}\n";
+        MockMultipartFile file = new MockMultipartFile("file", "orders.ndjson", "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        ExcelProcessingException exception = assertThrows(ExcelProcessingException.class, () -> orderExcelService.processExcelOrders(file));
+        assertTrue(exception.getMessage().contains("수량") && exception.getMessage().contains("2행"));
+    }
+
+    @Test
+    void 주문_엑셀_고객별_묶음_처리() throws IOException {
+        // Given: 같은 고객의 행 3개 (주문 참조번호 1 두 행, 2 한 행)
+        Product otherProduct = productRepository.save(Product.create("다른 상품", new BigDecimal("5000"), 10));
+        MockMultipartFile file = createExcelFile(new XSSFWorkbook(), "orders.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                List.of(new long[]{customerId, otherProduct.getId(), 1, 1},
+                        new long[]{customerId, productId, 2, 1},
+                        new long[]{customerId, productId, 1, 2}));
+
+        // When
+        List<OrderResponseDto> responses = orderExcelService.processExcelOrders(file, OrderGrouping.CUSTOMER).getOrders();
+
+        // Then: 주문 참조번호별로 주문이 묶이고, 항목 순서는 파일 순서를 유지
+        assertEquals(2, responses.size(), "주문 참조번호별로 2개의 주문이 생성되어야 함");
+        assertEquals(2, responses.get(0).getOrderItems().size());
+        assertEquals(otherProduct.getId(), responses.get(0).getOrderItems().get(0).getProductId());
+        assertEquals(1, responses.get(1).getOrderItems().size());
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getStockQuantity(), "재고가 합산 수량만큼 차감되어야 함");
+    }
+
+    @Test
+    void 주문_실패_존재하지_않는_ID_행별_보고() throws IOException {
+        // Given: 없는 고객 ID 와 없는 상품 ID 가 여러 행에 섞여 있는 파일
+        MockMultipartFile file = createExcelFile(new XSSFWorkbook(), "orders.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                List.of(new long[]{customerId, productId, 1},
+                        new long[]{9991L, productId, 1},
+                        new long[]{customerId, 9992L, 1},
+                        new long[]{9993L, 9994L, 1}));
+
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(file);
+
+        // Then: 누락된 ID 를 참조하는 행만 실패로 보고되고 나머지 행은 주문 생성
+        assertEquals(4, result.getTotalRows());
+        assertEquals(1, result.getCreatedOrderCount());
+        assertEquals(3, result.getFailedRowCount());
+        assertEquals(List.of(3, 4, 5), result.getErrors().stream().map(OrderImportRowError::getRowNumber).toList());
+        assertTrue(result.getErrors().get(0).getMessage().contains("9991"), "누락된 고객 ID 가 포함되어야 함");
+        assertTrue(result.getErrors().get(1).getMessage().contains("9992"), "누락된 상품 ID 가 포함되어야 함");
+        assertEquals(9, productRepository.findById(productId).orElseThrow().getStockQuantity(), "성공한 행만 재고가 차감되어야 함");
+    }
+
     @Test
     void 주문_실패_재고부족() {
         // Given: 재고보다 많은 수량 주문 요청
@@ -89,15 +196,47 @@ class OrderExcelServiceTest {
         product.decreaseStock(10); // ✅ 재고 소진
         productRepository.save(product);
 
-        // When & Then
-        assertThrows(InsufficientStockException.class, () -> orderExcelService.processExcelOrders(validExcelFile));
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(validExcelFile);
+
+        // Then: 예외 대신 실패한 행으로 보고
+        assertEquals(0, result.getCreatedOrderCount());
+        assertEquals(1, result.getFailedRowCount());
+        assertTrue(result.getErrors().get(0).getMessage().contains("재고가 부족합니다"));
+        assertTrue(result.getOrders().isEmpty());
+    }
+
+    @Test
+    void 청크마다_커밋하고_실패한_행만_보고() {
+        // Given: 재고 3개 상품을 1개씩 주문하는 5개 행 (청크 크기 2, 두 번째 청크 중간부터 재고 부족)
+        Product product = productRepository.save(Product.create("한정 상품", new BigDecimal("1000"), 3));
+        StringBuilder csv = new StringBuilder("Customer ID,Product ID,Quantity\n");
+        for (int i = 0; i < 5; i++) {
+            csv.append(customerId).append(',').append(product.getId()).append(",1\n");
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "orders.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        // When
+        OrderUploadResult result = orderExcelService.processExcelOrders(file);
+
+        // Then: 커밋된 주문은 유지되고 재고가 부족한 행만 실패
+        assertEquals(5, result.getTotalRows());
+        assertEquals(3, result.getCreatedOrderCount());
+        assertEquals(3, result.getOrders().size());
+        assertEquals(2, result.getFailedRowCount());
+        assertEquals(List.of(5, 6), result.getErrors().stream().map(OrderImportRowError::getRowNumber).toList());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
     }
 
     /**
      * 엑셀 파일 생성 함수 (MockMultipartFile)
      */
     private MockMultipartFile createValidExcelFile() throws IOException {
-        Workbook workbook = new XSSFWorkbook();
+        return createExcelFile(new XSSFWorkbook(), "orders.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                List.of(new long[]{customerId, productId, 2}));
+    }
+
+    private MockMultipartFile createExcelFile(Workbook workbook, String fileName, String contentType, List<long[]> rows) throws IOException {
         Sheet sheet = workbook.createSheet("Orders");
 
         // 첫 번째 행 (헤더)
@@ -105,20 +244,22 @@ class OrderExcelServiceTest {
         headerRow.createCell(0).setCellValue("Customer ID");
         headerRow.createCell(1).setCellValue("Product ID");
         headerRow.createCell(2).setCellValue("Quantity");
+        headerRow.createCell(3).setCellValue("Order Ref");
 
-        // 두 번째 행 (테스트 데이터)
-        Row dataRow = sheet.createRow(1);
-        dataRow.createCell(0).setCellValue(customerId); // Customer ID
-        dataRow.createCell(1).setCellValue(productId); // Product ID
-        dataRow.createCell(2).setCellValue(2); // Quantity
+        // 데이터 행 (고객 ID, 상품 ID, 수량, 주문 참조번호)
+        for (int i = 0; i < rows.size(); i++) {
+            Row dataRow = sheet.createRow(i + 1);
+            for (int column = 0; column < rows.get(i).length; column++) {
+                dataRow.createCell(column).setCellValue(rows.get(i)[column]);
+            }
+        }
 
         // 엑셀 파일을 바이트 배열로 변환
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         workbook.write(outputStream);
         workbook.close();
 
-        return new MockMultipartFile("file", "orders.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
-                outputStream.toByteArray());
+        return new MockMultipartFile("file", fileName, contentType, outputStream.toByteArray());
     }
 }
 
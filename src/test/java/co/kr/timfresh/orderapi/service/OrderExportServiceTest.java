@@ -0,0 +1,138 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InvalidExportRangeException;
+import co.kr.timfresh.orderapi.export.ExportFormat;
+import co.kr.timfresh.orderapi.export.OrderExportFilter;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.util.OrderNumberGenerator;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order-export-test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    private Long customerId;
+    private String firstOrderNumber;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        // 주문번호 날짜는 서버 시간대가 아니라 주문번호 시간대 기준
+        today = LocalDate.now(orderNumberGenerator.getZone());
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long otherCustomerId = customerRepository.save(Customer.create("다른 고객", "부산시 해운대구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("사과, 부사", BigDecimal.valueOf(100), 100)).getId();
+        Long otherProductId = productRepository.save(Product.create("배", BigDecimal.valueOf(200), 100)).getId();
+
+        firstOrderNumber = orderService.createOrder(new OrderRequestDto(customerId,
+                List.of(new OrderItemDto(productId, 1), new OrderItemDto(otherProductId, 2)))).getOrderNumber();
+        orderService.createOrder(new OrderRequestDto(otherCustomerId, List.of(new OrderItemDto(productId, 3))));
+    }
+
+    @Test
+    void CSV_내보내기() {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rowCount = orderExportService.export(OrderExportFilter.of(today, today, null), ExportFormat.CSV, out);
+
+        // Then: BOM + 헤더 + 주문 항목 3행, 쉼표가 든 값은 따옴표로 감쌈
+        String csv = out.toString(StandardCharsets.UTF_8);
+        List<String> lines = csv.lines().toList();
+        assertEquals(3, rowCount);
+        assertTrue(csv.startsWith("\uFEFF주문번호,"));
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).startsWith(firstOrderNumber + "," + customerId + ",테스트 고객,"));
+        assertTrue(lines.get(1).contains("\"사과, 부사\""));
+    }
+
+    @Test
+    void CSV_수식으로_시작하는_값_보호() {
+        // Given: 수식처럼 시작하는 고객명/상품명
+        Long formulaCustomerId = customerRepository.save(Customer.create("=HYPERLINK(\"http://example.com\")", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long formulaProductId = productRepository.save(Product.create("@SUM(A1)", BigDecimal.valueOf(100), 100)).getId();
+        orderService.createOrder(new OrderRequestDto(formulaCustomerId, List.of(new OrderItemDto(formulaProductId, 1))));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(OrderExportFilter.of(today, today, formulaCustomerId), ExportFormat.CSV, out);
+
+        // Then: 작은따옴표를 붙여 문자열로 표시되고, 숫자 열은 그대로
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\","), lines.get(1));
+        assertTrue(lines.get(1).contains(",'@SUM(A1),1,100.00"), lines.get(1));
+    }
+
+    @Test
+    void XLSX_고객_필터_내보내기() throws IOException {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rowCount = orderExportService.export(OrderExportFilter.of(today, today, customerId), ExportFormat.XLSX, out);
+
+        // Then: 해당 고객의 주문 항목 2행만 포함
+        assertEquals(2, rowCount);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(2, sheet.getLastRowNum());
+            assertEquals(firstOrderNumber, sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("테스트 고객", sheet.getRow(1).getCell(2).getStringCellValue());
+            assertEquals(2, (int) sheet.getRow(2).getCell(5).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void 기간_밖의_주문은_제외() {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDate yesterday = today.minusDays(1);
+        long rowCount = orderExportService.export(OrderExportFilter.of(yesterday.minusDays(7), yesterday, null), ExportFormat.CSV, out);
+
+        // Then: 헤더만 있음
+        assertEquals(0, rowCount);
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).lines().count());
+    }
+
+    @Test
+    void 잘못된_기간_실패() {
+        assertThrows(InvalidExportRangeException.class,
+                () -> OrderExportFilter.of(today, today.minusDays(1), null));
+    }
+}
@@ -0,0 +1,105 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderPageDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.CustomerNotFoundException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-history-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.stats.flush-interval-ms=3600000" // 측정 중 집계 플러시 SQL 이 섞이지 않도록
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OrderHistoryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long customerId;
+    private final List<String> orderNumbers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long otherCustomerId = customerRepository.save(Customer.create("다른 고객", "부산시 해운대구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(100), 100)).getId();
+
+        for (int i = 0; i < 5; i++) {
+            orderNumbers.add(orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1)))).getOrderNumber());
+            orderService.createOrder(new OrderRequestDto(otherCustomerId, List.of(new OrderItemDto(productId, 1))));
+        }
+    }
+
+    @Test
+    void 커서로_최신순_페이지_조회() {
+        // When
+        OrderPageDto first = orderService.getCustomerOrders(customerId, null, 2);
+        OrderPageDto second = orderService.getCustomerOrders(customerId, first.getNextCursor(), 2);
+        OrderPageDto last = orderService.getCustomerOrders(customerId, second.getNextCursor(), 2);
+
+        // Then: 다른 고객 주문 없이 최신순으로 이어짐
+        assertEquals(List.of(orderNumbers.get(4), orderNumbers.get(3)), orderNumbersOf(first));
+        assertEquals(List.of(orderNumbers.get(2), orderNumbers.get(1)), orderNumbersOf(second));
+        assertEquals(List.of(orderNumbers.get(0)), orderNumbersOf(last));
+        assertTrue(first.isHasNext());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+
+    /**
+     * 한 페이지는 주문(+고객) 조회 1번과 주문 항목 일괄 조회 1번으로 끝나야 함 (주문마다 지연 로딩 없음)
+     */
+    @Test
+    void 페이지_조회_쿼리_수() {
+        // Given
+        orderService.getCustomerOrders(customerId, null, 1); // 고객 캐시 적재
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        OrderPageDto page = orderService.getCustomerOrders(customerId, null, 5);
+
+        // Then
+        assertEquals(5, page.getOrders().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 없는_고객_주문_조회_실패() {
+        assertThrows(CustomerNotFoundException.class, () -> orderService.getCustomerOrders(999_999L, null, 20));
+    }
+
+    private List<String> orderNumbersOf(OrderPageDto page) {
+        return page.getOrders().stream().map(OrderResponseDto::getOrderNumber).toList();
+    }
+}
@@ -0,0 +1,127 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.ImportJobNotFoundException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.upload.OrderGrouping;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "order.import.chunk-size=2",
+        "spring.datasource.url=jdbc:h2:mem:order-import-job-test" // 커밋된 데이터가 다른 테스트 컨텍스트와 섞이지 않도록 별도 DB 사용
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OrderImportJobServiceTest {
+
+    @Autowired
+    private OrderImportJobService orderImportJobService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 비동기_주문_등록_완료() throws Exception {
+        // Given
+        Customer customer = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT));
+        Product product = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 100));
+
+        // When: 작업을 등록하고 완료될 때까지 상태를 조회
+        OrderImportJob job = orderImportJobService.submit(createExcelFile(List.of(
+                new long[]{customer.getId(), product.getId(), 1},
+                new long[]{customer.getId(), product.getId(), 1},
+                new long[]{customer.getId(), product.getId(), 1})), OrderGrouping.ROW);
+        awaitFinished(job);
+
+        // Then
+        assertEquals(OrderImportJob.Status.COMPLETED, orderImportJobService.getJob(job.getJobId()).getStatus());
+        assertEquals(3, job.getTotalRows());
+        assertEquals(3, job.getProcessedRows());
+        assertEquals(3, job.getResult().getCreatedOrderCount());
+        assertEquals(97, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void 비동기_주문_등록_청크_부분_실패() throws Exception {
+        // Given: 재고 3개 상품을 1개씩 주문하는 5개 행 + 없는 상품을 주문하는 행 (청크 크기 2)
+        Customer customer = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT));
+        Product product = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 3));
+        List<long[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(new long[]{customer.getId(), product.getId(), 1});
+        }
+        rows.add(new long[]{customer.getId(), 9999L, 1});
+
+        // When
+        OrderImportJob job = orderImportJobService.submit(createExcelFile(rows), OrderGrouping.ROW);
+        awaitFinished(job);
+
+        // Then: 실패한 행만 오류로 보고되고 나머지 청크는 커밋됨
+        assertEquals(OrderImportJob.Status.COMPLETED, job.getStatus());
+        OrderImportResult result = job.getResult();
+        assertEquals(3, result.getCreatedOrderCount());
+        assertEquals(3, result.getFailedRowCount());
+        assertEquals(List.of(5, 6, 7), result.getErrors().stream().map(OrderImportRowError::getRowNumber).sorted().toList());
+        assertEquals(6, job.getProcessedRows());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void 없는_작업_조회_실패() {
+        assertThrows(ImportJobNotFoundException.class, () -> orderImportJobService.getJob("unknown"));
+    }
+
+    private void awaitFinished(OrderImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (job.getStatus() != OrderImportJob.Status.COMPLETED && job.getStatus() != OrderImportJob.Status.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * 엑셀 파일 생성 (각 행: 고객 ID, 상품 ID, 수량)
+     */
+    private MockMultipartFile createExcelFile(List<long[]> rows) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Orders");
+            Row headerRow = sheet.createRow(0);
+            headerRow.createCell(0).setCellValue("Customer ID");
+            headerRow.createCell(1).setCellValue("Product ID");
+            headerRow.createCell(2).setCellValue("Quantity");
+
+            for (int i = 0; i < rows.size(); i++) {
+                Row dataRow = sheet.createRow(i + 1);
+                for (int column = 0; column < rows.get(i).length; column++) {
+                    dataRow.createCell(column).setCellValue(rows.get(i)[column]);
+                }
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            workbook.write(outputStream);
+            return new MockMultipartFile("file", "orders.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                    outputStream.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.OrderNotFoundException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-query-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.stats.flush-interval-ms=3600000" // 측정 중 집계 플러시 SQL 이 섞이지 않도록
+})
+@DirtiesContext
+class OrderQueryTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 주문 조회는 주문 항목 수와 무관하게 SQL 한 번으로 끝나야 함
+     */
+    @Test
+    void 주문_조회_단일_쿼리() {
+        // Given: 주문 항목 3개인 주문
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        List<OrderItemDto> items = List.of(
+                new OrderItemDto(productRepository.save(Product.create("상품 1", BigDecimal.valueOf(100), 10)).getId(), 1),
+                new OrderItemDto(productRepository.save(Product.create("상품 2", BigDecimal.valueOf(200), 10)).getId(), 2),
+                new OrderItemDto(productRepository.save(Product.create("상품 3", BigDecimal.valueOf(300), 10)).getId(), 3));
+        String orderNumber = orderService.createOrder(new OrderRequestDto(customerId, items)).getOrderNumber();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        OrderResponseDto responseDto = orderService.getOrder(orderNumber);
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount(), "주문/고객/주문 항목을 한 번에 조회해야 함");
+        assertEquals(orderNumber, responseDto.getOrderNumber());
+        assertEquals("테스트 고객", responseDto.getCustomerName());
+        assertEquals(3, responseDto.getOrderItems().size());
+    }
+
+    @Test
+    void 없는_주문_조회_실패() {
+        assertThrows(OrderNotFoundException.class, () -> orderService.getOrder("20240222-145623-987-000000"));
+    }
+}
@@ -0,0 +1,91 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.stock.StockBucketService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order-upload-lock-order-test") // 청크마다 커밋하므로 별도 DB 사용
+@DirtiesContext
+class OrderUploadLockOrderTest {
+
+    @Autowired
+    private OrderExcelService orderExcelService;
+
+    @Autowired
+    private StockBucketService stockBucketService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 상품_순서가_반대인_동시_업로드_데드락_없음() throws Exception {
+        // Given: 일반 상품 2개와 버킷으로 나눈 상품 1개를 서로 반대 순서로 담은 두 파일
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long firstProductId = productRepository.save(Product.create("상품 A", BigDecimal.valueOf(100), 1000)).getId();
+        Long secondProductId = productRepository.save(Product.create("상품 B", BigDecimal.valueOf(100), 1000)).getId();
+        Long bucketedProductId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 1000)).getId();
+        stockBucketService.configureBuckets(bucketedProductId, 4);
+
+        MockMultipartFile forward = csvFile(customerId, List.of(firstProductId, secondProductId, bucketedProductId));
+        MockMultipartFile backward = csvFile(customerId, List.of(bucketedProductId, secondProductId, firstProductId));
+
+        // When: 두 파일을 동시에 여러 번 업로드 (한 청크 안에서 행마다 단건 주문이므로 주문 사이에서 락 순서가 뒤집힘)
+        int rounds = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<OrderUploadResult>> uploads = new ArrayList<>();
+                for (MockMultipartFile file : List.of(forward, backward)) {
+                    uploads.add(executorService.submit(() -> {
+                        start.await();
+                        return orderExcelService.processExcelOrders(file);
+                    }));
+                }
+                start.countDown();
+
+                // Then: 데드락이나 락 타임아웃으로 실패한 행 없이 모두 성공
+                for (Future<OrderUploadResult> upload : uploads) {
+                    OrderUploadResult result = upload.get();
+                    assertEquals(0, result.getFailedRowCount(), "업로드가 데드락 없이 성공해야 함 (round " + round + ")");
+                    assertEquals(3, result.getCreatedOrderCount());
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        int expectedStock = 1000 - rounds * 2;
+        assertEquals(expectedStock, productRepository.findById(firstProductId).orElseThrow().getStockQuantity());
+        assertEquals(expectedStock, productRepository.findById(secondProductId).orElseThrow().getStockQuantity());
+        assertEquals(expectedStock, stockBucketService.getStock(bucketedProductId).getTotalStock());
+    }
+
+    private MockMultipartFile csvFile(Long customerId, List<Long> productIds) {
+        StringBuilder csv = new StringBuilder("Customer ID,Product ID,Quantity\n");
+        productIds.forEach(productId -> csv.append(customerId).append(',').append(productId).append(",1\n"));
+        return new MockMultipartFile("file", "orders.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
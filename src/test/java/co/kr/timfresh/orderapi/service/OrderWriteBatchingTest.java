@@ -0,0 +1,101 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.stock.InMemoryStockLedger;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 한 건당 실행되는 SQL 문 수 측정
+ * <p>
+ * 재고 확인 쿼리 수를 빼고 쓰기 경로만 보기 위해 LEDGER 모드에서 장부와 캐시를 미리 적재한 뒤 측정한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-write-batching-test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "order.stock.mode=LEDGER",
+        "order.stock.ledger.flush-interval-ms=3600000",
+        "order.stats.flush-interval-ms=3600000" // 측정 중 집계 플러시 SQL 이 섞이지 않도록
+})
+@DirtiesContext
+class OrderWriteBatchingTest {
+
+    private static final int PRODUCT_COUNT = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InMemoryStockLedger stockLedger;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long customerId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Long productId = productRepository.save(Product.create("상품 " + i, BigDecimal.valueOf(100), 1000)).getId();
+            stockLedger.getAvailable(productId);
+            productIds.add(productId);
+        }
+
+        // 캐시 적재
+        orderService.createOrder(orderOf(PRODUCT_COUNT));
+    }
+
+    @Test
+    void 주문_항목_수와_무관하게_INSERT_배치() {
+        // When
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long singleItemStatements = preparedStatementsOf(statistics, orderOf(1));
+        long multiItemStatements = preparedStatementsOf(statistics, orderOf(PRODUCT_COUNT));
+        long multiItemInserts = statistics.getEntityInsertCount();
+
+        // Then: 주문 1건 + 주문 항목 10건을 저장하지만 항목 INSERT 는 하나의 배치 (시퀀스 추가 할당 1회 허용)
+        assertEquals(1 + PRODUCT_COUNT, multiItemInserts, "주문 1건 + 주문 항목 " + PRODUCT_COUNT + "건만 INSERT 되어야 함");
+        assertTrue(multiItemStatements - singleItemStatements <= 1,
+                "주문 항목이 늘어도 준비되는 SQL 문 수는 같아야 함: " + singleItemStatements + " -> " + multiItemStatements);
+    }
+
+    private long preparedStatementsOf(Statistics statistics, OrderRequestDto requestDto) {
+        statistics.clear();
+        orderService.createOrder(requestDto);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private OrderRequestDto orderOf(int itemCount) {
+        List<OrderItemDto> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemDto(productIds.get(i), 1));
+        }
+        return new OrderRequestDto(customerId, items);
+    }
+}
@@ -0,0 +1,125 @@
+package co.kr.timfresh.orderapi.service;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시에 진행 중인 주문이 많을 때 플랫폼 스레드 풀(Tomcat 기본 200개)과 가상 스레드의 처리량/지연 비교 (./gradlew benchmark -PjavaVersion=21)
+ * <p>
+ * 주문은 상품 락과 DB 커넥션(풀 20개)에서 대기하므로, 가상 스레드는 스레드 수 제한 없이 대기열을 커넥션 풀 앞으로 옮긴다.
+ * Java 21 미만에서는 가상 스레드 측정을 건너뛴다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-thread-benchmark",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.show-sql=false"
+})
+@DirtiesContext
+class VirtualThreadOrderBenchmarkTest {
+
+    private static final int IN_FLIGHT_ORDERS = 2_000;
+    private static final int PRODUCT_COUNT = 50;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 동시_주문_처리량_비교() throws Exception {
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productIds.add(productRepository.save(Product.create("상품 " + i, BigDecimal.valueOf(1000), 1_000_000)).getId());
+        }
+
+        run("platform", Executors.newFixedThreadPool(PLATFORM_THREADS), customerId, productIds); // JIT 워밍업
+        run("platform", Executors.newFixedThreadPool(PLATFORM_THREADS), customerId, productIds);
+
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 Java 21 이상에서만 측정");
+        run("virtual", newVirtualThreadPerTaskExecutor(), customerId, productIds);
+    }
+
+    private void run(String name, ExecutorService executorService, Long customerId, List<Long> productIds) throws InterruptedException {
+        long[] latencies = new long[IN_FLIGHT_ORDERS];
+        CountDownLatch done = new CountDownLatch(IN_FLIGHT_ORDERS);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < IN_FLIGHT_ORDERS; i++) {
+            int index = i;
+            long submittedAt = System.nanoTime();
+            executorService.submit(() -> {
+                try {
+                    Long productId = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+                    orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+                    completed.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                    firstFailure.compareAndSet(null, e);
+                } finally {
+                    latencies[index] = System.nanoTime() - submittedAt; // 스레드 대기 시간 포함
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        // 실패한 주문이 섞이면 처리량/지연을 비교할 수 없으므로 첫 실패 원인과 함께 중단
+        if (failed.get() > 0) {
+            fail("[" + name + "] " + failed.get() + "건의 주문이 실패함", firstFailure.get());
+        }
+        assertEquals(IN_FLIGHT_ORDERS, completed.get(), "[" + name + "] 모든 주문이 완료되어야 함");
+
+        Arrays.sort(latencies);
+        System.out.printf("[benchmark] threads=%s in-flight=%d elapsed=%dms throughput=%.0f orders/s p50=%.1fms p99=%.1fms%n",
+                name, IN_FLIGHT_ORDERS, elapsedNanos / 1_000_000, IN_FLIGHT_ORDERS * 1_000_000_000.0 / elapsedNanos,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.ceil(percentile * sortedNanos.length) - 1] / 1_000_000.0;
+    }
+
+    /**
+     * Java 17 로도 컴파일되도록 리플렉션으로 생성
+     */
+    private ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
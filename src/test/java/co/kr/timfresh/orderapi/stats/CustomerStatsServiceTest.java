@@ -0,0 +1,131 @@
+package co.kr.timfresh.orderapi.stats;
+
+import co.kr.timfresh.orderapi.dto.CustomerStatsDto;
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.OrderResponseDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerDailyStats;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Order;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InvalidStatsRangeException;
+import co.kr.timfresh.orderapi.repository.CustomerDailyStatsRepository;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:customer-stats-test",
+        "order.stats.flush-interval-ms=3600000" // 플러시는 테스트에서 직접 실행
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CustomerStatsServiceTest {
+
+    @Autowired
+    private CustomerStatsService customerStatsService;
+
+    @Autowired
+    private CustomerDailyStatsFlusher customerDailyStatsFlusher;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerDailyStatsRepository customerDailyStatsRepository;
+
+    @Test
+    void 주문_생성_시_금액과_수량_합계_저장() {
+        // Given: VIP 고객 (10% 할인)
+        Long customerId = customerRepository.save(Customer.create("VIP 고객", "서울시 강남구", CustomerType.VIP)).getId();
+        Long firstProductId = productRepository.save(Product.create("상품 A", new BigDecimal("1000"), 10)).getId();
+        Long secondProductId = productRepository.save(Product.create("상품 B", new BigDecimal("250.50"), 10)).getId();
+
+        // When
+        OrderResponseDto responseDto = orderService.createOrder(new OrderRequestDto(customerId,
+                List.of(new OrderItemDto(firstProductId, 2), new OrderItemDto(secondProductId, 3))));
+
+        // Then: 1800.00 + 676.35 (751.50 * 0.9 = 676.35)
+        Order order = orderRepository.findById(responseDto.getOrderNumber()).orElseThrow();
+        assertEquals(new BigDecimal("2476.35"), order.getTotalAmount().toBigDecimal());
+        assertEquals(5, order.getItemCount());
+        assertTrue(order.isStatsPending());
+        assertEquals(new BigDecimal("2476.35"), responseDto.getTotalAmount());
+        assertEquals(5, responseDto.getItemCount());
+    }
+
+    @Test
+    void 플러시_전후_일별_집계가_같고_한_번만_반영() {
+        // Given: 주문 날짜는 각 주문번호에서 구함 (자정을 넘겨 날짜가 바뀌어도 같은 결과)
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("테스트 상품", new BigDecimal("1000"), 100)).getId();
+        String firstOrderNumber = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 2)))).getOrderNumber();
+        String secondOrderNumber = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 3)))).getOrderNumber();
+        LocalDate firstOrderDate = Order.orderDateOf(firstOrderNumber);
+        LocalDate secondOrderDate = Order.orderDateOf(secondOrderNumber);
+        long orderDays = Stream.of(firstOrderDate, secondOrderDate).distinct().count();
+
+        // When: 플러시 전에는 주문에 저장된 합계로, 후에는 집계 테이블로 조회
+        CustomerStatsDto beforeFlush = customerStatsService.getDailyStats(customerId, firstOrderDate, secondOrderDate);
+        int flushed = customerDailyStatsFlusher.flushAll();
+        int flushedAgain = customerDailyStatsFlusher.flushAll();
+        CustomerStatsDto afterFlush = customerStatsService.getDailyStats(customerId, firstOrderDate, secondOrderDate);
+
+        // Then
+        assertEquals(2, flushed);
+        assertEquals(0, flushedAgain);
+        for (CustomerStatsDto stats : List.of(beforeFlush, afterFlush)) {
+            assertEquals(orderDays, stats.getDays().size());
+            assertEquals(2, stats.getOrderCount());
+            assertEquals(new BigDecimal("5000.00"), stats.getRevenue());
+            assertEquals(5, stats.getUnits());
+        }
+        List<CustomerDailyStats> stored = customerDailyStatsRepository
+                .findByCustomerIdAndStatDateBetweenOrderByStatDate(customerId, firstOrderDate, secondOrderDate);
+        assertEquals(orderDays, stored.size());
+        assertEquals(2, stored.stream().mapToLong(CustomerDailyStats::getOrderCount).sum());
+        assertEquals(0, new BigDecimal("5000").compareTo(stored.stream().map(CustomerDailyStats::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        assertEquals(5, stored.stream().mapToLong(CustomerDailyStats::getUnits).sum());
+
+        // When: 주문 추가 후 다시 플러시 (같은 날이면 기존 행에 누적)
+        String thirdOrderNumber = orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1)))).getOrderNumber();
+        LocalDate thirdOrderDate = Order.orderDateOf(thirdOrderNumber);
+        customerDailyStatsFlusher.flushAll();
+
+        // Then
+        CustomerStatsDto accumulated = customerStatsService.getDailyStats(customerId, firstOrderDate, thirdOrderDate);
+        assertEquals(3, accumulated.getOrderCount());
+        assertEquals(new BigDecimal("6000.00"), accumulated.getRevenue());
+        assertEquals(Stream.of(firstOrderDate, secondOrderDate, thirdOrderDate).distinct().count(), customerDailyStatsRepository.count());
+    }
+
+    @Test
+    void 잘못된_조회_기간() {
+        Long customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        LocalDate today = LocalDate.now();
+
+        assertThrows(InvalidStatsRangeException.class, () -> customerStatsService.getDailyStats(customerId, today, today.minusDays(1)));
+        assertThrows(InvalidStatsRangeException.class, () -> customerStatsService.getDailyStats(customerId, today.minusDays(366), today));
+    }
+}
@@ -0,0 +1,135 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 하나의 인기 상품에 주문이 몰릴 때 재고 차감 방식별 초당 주문 수 측정 (./gradlew benchmark)
+ * <p>
+ * OrderService 는 설정된 방식만 사용하므로 방식마다 별도 컨텍스트(하위 클래스)로 실행한다.
+ */
+@Tag("benchmark")
+abstract class HotProductOrderBenchmarkTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int ORDERS_PER_THREAD = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockLedgerFlusher stockLedgerFlusher;
+
+    abstract StockMode stockMode();
+
+    @Test
+    void 인기_상품_동시_주문_처리량() throws InterruptedException {
+        int totalOrders = THREAD_COUNT * ORDERS_PER_THREAD;
+        Long customerId = customerRepository.save(Customer.create("벤치마크 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), totalOrders)).getId();
+        OrderRequestDto requestDto = new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failureCount = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                        try {
+                            orderService.createOrder(requestDto);
+                        } catch (RuntimeException e) {
+                            failureCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        // LEDGER 는 측정 후 남은 미반영 수량을 반영해 DB 재고를 비교
+        stockLedgerFlusher.flushAll();
+        int stockLeft = productRepository.findById(productId).orElseThrow().getStockQuantity();
+        System.out.printf("[benchmark] order stock mode=%s threads=%d orders=%d failures=%d elapsed=%dms throughput=%.0f orders/s%n",
+                stockMode(), THREAD_COUNT, totalOrders, failureCount.get(), elapsedNanos / 1_000_000,
+                totalOrders * 1_000_000_000.0 / elapsedNanos);
+
+        assertEquals(failureCount.get(), stockLeft, "성공한 주문 수만큼만 재고가 줄어야 함");
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-benchmark-pessimistic",
+            "order.stock.mode=PESSIMISTIC"
+    })
+    static class Pessimistic extends HotProductOrderBenchmarkTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.PESSIMISTIC;
+        }
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-benchmark-conditional-update",
+            "order.stock.mode=CONDITIONAL_UPDATE"
+    })
+    static class ConditionalUpdate extends HotProductOrderBenchmarkTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.CONDITIONAL_UPDATE;
+        }
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-benchmark-ledger",
+            "order.stock.mode=LEDGER"
+    })
+    static class Ledger extends HotProductOrderBenchmarkTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.LEDGER;
+        }
+    }
+}
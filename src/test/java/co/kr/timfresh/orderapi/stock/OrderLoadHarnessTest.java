@@ -0,0 +1,367 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.StockConflictException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.OrderRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재고 차감 방식별 주문 생성 부하 테스트 (./gradlew benchmark --tests '*OrderLoadHarnessTest*')
+ * <p>
+ * 동시성, 상품 쏠림(UNIFORM | HOT), 주문당 항목 수를 -Dload.* 로 바꿔 같은 조건에서 방식을 비교한다.
+ * 처리량, 지연 백분위, 락 대기, 데드락/타임아웃 수를 출력하고 마지막에 초과 판매가 없는지 검증한다.
+ * <pre>
+ * ./gradlew benchmark --tests '*OrderLoadHarnessTest*' -Dload.threads=64 -Dload.skew=UNIFORM -Dload.items-per-order=5
+ * </pre>
+ */
+@Tag("benchmark")
+abstract class OrderLoadHarnessTest {
+
+    /**
+     * 주문 항목 상품 선택 방식
+     */
+    enum Skew {
+        UNIFORM, // 모든 상품에서 고르게 선택
+        HOT      // 모든 주문에 인기 상품(첫 번째 상품) 하나를 포함하고 나머지는 고르게 선택
+    }
+
+    /**
+     * 주문 한 건의 결과
+     */
+    enum Outcome {
+        CREATED,
+        SOLD_OUT,  // 재고 부족 (정상 거절)
+        CONFLICT,  // 낙관적 락 재시도 한도 초과
+        DEADLOCK,
+        TIMEOUT,   // 락 대기 또는 커넥션 획득 시간 초과
+        OTHER
+    }
+
+    private static final String LOCK_WAIT_TIMER = "order.stock.lock.wait";
+    // 측정 전 JIT 예열용 주문 수 (측정 상품과 별도의 상품 사용)
+    private static final int WARMUP_ORDERS = 500;
+
+    @Value("${load.threads:32}")
+    private int threadCount;
+
+    @Value("${load.orders-per-thread:200}")
+    private int ordersPerThread;
+
+    @Value("${load.products:100}")
+    private int productCount;
+
+    @Value("${load.items-per-order:3}")
+    private int itemsPerOrder;
+
+    @Value("${load.skew:HOT}")
+    private Skew skew;
+
+    // 상품별 초기 재고 (0 이하면 전체 주문 수의 절반: HOT 에서는 측정 도중 인기 상품이 품절됨)
+    @Value("${load.stock-per-product:0}")
+    private int stockPerProduct;
+
+    @Value("${load.seed:42}")
+    private long seed;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockStrategyFactory stockStrategyFactory;
+
+    @Autowired
+    private StockLedgerFlusher stockLedgerFlusher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    abstract StockMode stockMode();
+
+    @Test
+    void 주문_생성_부하() throws InterruptedException {
+        int totalOrders = threadCount * ordersPerThread;
+        int initialStock = stockPerProduct > 0 ? stockPerProduct : Math.max(totalOrders / 2, 1);
+        assertTrue(itemsPerOrder >= 1 && itemsPerOrder <= productCount, "주문당 항목 수는 1 ~ 상품 수");
+
+        Long customerId = customerRepository.save(Customer.create("부하 테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+        warmUp(customerId);
+
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            productIds.add(productRepository.save(Product.create("부하 테스트 상품 " + i, BigDecimal.valueOf(1000), initialStock)).getId());
+        }
+
+        // 요청은 미리 만들어 두고 측정 구간에서는 주문 생성만 실행 (같은 seed 면 같은 요청)
+        List<List<OrderRequestDto>> requestsByThread = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            requestsByThread.add(createRequests(customerId, productIds, new SplittableRandom(seed + i)));
+        }
+
+        Timer lockWaitTimer = meterRegistry.get(LOCK_WAIT_TIMER).timer();
+        long lockWaitCountBefore = lockWaitTimer.count();
+        double lockWaitMillisBefore = lockWaitTimer.totalTime(TimeUnit.MILLISECONDS);
+        long retriesBefore = optimisticStrategy().getRetryCount();
+        long ordersBefore = orderRepository.count();
+
+        long[] latencies = new long[totalOrders];
+        AtomicLongArray outcomes = new AtomicLongArray(Outcome.values().length);
+        long elapsedNanos = run(requestsByThread, latencies, outcomes);
+
+        // LEDGER 는 미반영 수량을 DB 재고에 반영한 뒤 검증
+        stockLedgerFlusher.flushAll();
+
+        Arrays.sort(latencies);
+        long lockWaitCount = lockWaitTimer.count() - lockWaitCountBefore;
+        double lockWaitMillis = lockWaitTimer.totalTime(TimeUnit.MILLISECONDS) - lockWaitMillisBefore;
+        System.out.printf("[benchmark] load stock mode=%s threads=%d orders=%d products=%d items/order=%d skew=%s stock/product=%d%n",
+                stockMode(), threadCount, totalOrders, productCount, itemsPerOrder, skew, initialStock);
+        System.out.printf("[benchmark] load stock mode=%s elapsed=%dms throughput=%.0f orders/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                stockMode(), elapsedNanos / 1_000_000, totalOrders * 1_000_000_000.0 / elapsedNanos,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0);
+        System.out.printf("[benchmark] load stock mode=%s lockWait total=%.0fms mean=%.2fms optimisticRetries=%d%n",
+                stockMode(), lockWaitMillis, lockWaitCount == 0 ? 0.0 : lockWaitMillis / lockWaitCount,
+                optimisticStrategy().getRetryCount() - retriesBefore);
+        StringBuilder outcomeSummary = new StringBuilder();
+        for (Outcome outcome : Outcome.values()) {
+            outcomeSummary.append(' ').append(outcome.name().toLowerCase(Locale.ROOT)).append('=').append(outcomes.get(outcome.ordinal()));
+        }
+        System.out.printf("[benchmark] load stock mode=%s%s%n", stockMode(), outcomeSummary);
+
+        assertNoOversell(productIds, initialStock);
+        assertEquals(outcomes.get(Outcome.CREATED.ordinal()), orderRepository.count() - ordersBefore, "성공한 주문만 저장되어야 함");
+        assertEquals(0, outcomes.get(Outcome.OTHER.ordinal()), "재고 부족/충돌/락 외의 예외는 없어야 함");
+    }
+
+    private List<OrderRequestDto> createRequests(Long customerId, List<Long> productIds, SplittableRandom random) {
+        List<OrderRequestDto> requests = new ArrayList<>(ordersPerThread);
+        for (int i = 0; i < ordersPerThread; i++) {
+            requests.add(new OrderRequestDto(customerId, pickItems(productIds, random)));
+        }
+        return requests;
+    }
+
+    /**
+     * 주문 항목으로 서로 다른 상품을 수량 1 로 선택 (HOT 이면 인기 상품을 항상 포함)
+     */
+    private List<OrderItemDto> pickItems(List<Long> productIds, SplittableRandom random) {
+        List<Long> candidates = new ArrayList<>(productIds);
+        List<OrderItemDto> items = new ArrayList<>(itemsPerOrder);
+        if (skew == Skew.HOT) {
+            items.add(new OrderItemDto(candidates.remove(0), 1));
+        }
+        while (items.size() < itemsPerOrder) {
+            items.add(new OrderItemDto(candidates.remove(random.nextInt(candidates.size())), 1));
+        }
+        return items;
+    }
+
+    private long run(List<List<OrderRequestDto>> requestsByThread, long[] latencies, AtomicLongArray outcomes) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            List<OrderRequestDto> requests = requestsByThread.get(i);
+            int offset = i * ordersPerThread;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < requests.size(); j++) {
+                        long startedAt = System.nanoTime();
+                        Outcome outcome;
+                        try {
+                            orderService.createOrder(requests.get(j));
+                            outcome = Outcome.CREATED;
+                        } catch (RuntimeException e) {
+                            outcome = classify(e);
+                        }
+                        latencies[offset + j] = System.nanoTime() - startedAt;
+                        outcomes.incrementAndGet(outcome.ordinal());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        return elapsedNanos;
+    }
+
+    /**
+     * 예외를 결과로 분류 (데드락/락 타임아웃은 원인의 SQLState, H2 오류 코드로 구분)
+     */
+    private Outcome classify(RuntimeException e) {
+        if (e instanceof InsufficientStockException) {
+            return Outcome.SOLD_OUT;
+        }
+        if (e instanceof StockConflictException) {
+            return Outcome.CONFLICT;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return Outcome.TIMEOUT;
+            }
+            if (cause instanceof SQLException sqlException) {
+                if ("40001".equals(sqlException.getSQLState())) {
+                    return Outcome.DEADLOCK;
+                }
+                if ("HYT00".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 50200) {
+                    return Outcome.TIMEOUT;
+                }
+            }
+        }
+        return e instanceof PessimisticLockingFailureException ? Outcome.TIMEOUT : Outcome.OTHER;
+    }
+
+    /**
+     * 상품마다 초기 재고 - 현재 재고 = 커밋된 주문 수량 합계, 현재 재고 >= 0
+     */
+    private void assertNoOversell(List<Long> productIds, int initialStock) {
+        Map<Long, Long> orderedQuantities = new HashMap<>();
+        jdbcTemplate.query("SELECT product_id, SUM(quantity) FROM order_items GROUP BY product_id",
+                rs -> {
+            orderedQuantities.put(rs.getLong(1), rs.getLong(2));
+        });
+
+        for (Long productId : productIds) {
+            int stockLeft = productRepository.findStockQuantityById(productId).orElseThrow();
+            long ordered = orderedQuantities.getOrDefault(productId, 0L);
+            assertTrue(stockLeft >= 0, "재고가 음수가 되면 안 됨: product=" + productId);
+            assertEquals(initialStock - ordered, stockLeft, "주문된 수량만큼만 재고가 줄어야 함: product=" + productId);
+        }
+    }
+
+    private void warmUp(Long customerId) throws InterruptedException {
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < itemsPerOrder; i++) {
+            productIds.add(productRepository.save(Product.create("예열 상품 " + i, BigDecimal.valueOf(1000), WARMUP_ORDERS)).getId());
+        }
+        List<OrderItemDto> items = productIds.stream().map(productId -> new OrderItemDto(productId, 1)).toList();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            executorService.submit(() -> orderService.createOrder(new OrderRequestDto(customerId, items)));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private OptimisticStockStrategy optimisticStrategy() {
+        return (OptimisticStockStrategy) stockStrategyFactory.getStrategy(StockMode.OPTIMISTIC);
+    }
+
+    private double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.ceil(percentile * sortedNanos.length) - 1] / 1_000_000.0;
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-load-pessimistic;LOCK_TIMEOUT=${load.lock-timeout-ms:10000}",
+            "spring.datasource.hikari.maximum-pool-size=${load.pool-size:10}",
+            "order.stock.mode=PESSIMISTIC"
+    })
+    static class Pessimistic extends OrderLoadHarnessTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.PESSIMISTIC;
+        }
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-load-conditional-update;LOCK_TIMEOUT=${load.lock-timeout-ms:10000}",
+            "spring.datasource.hikari.maximum-pool-size=${load.pool-size:10}",
+            "order.stock.mode=CONDITIONAL_UPDATE"
+    })
+    static class ConditionalUpdate extends OrderLoadHarnessTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.CONDITIONAL_UPDATE;
+        }
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-load-optimistic;LOCK_TIMEOUT=${load.lock-timeout-ms:10000}",
+            "spring.datasource.hikari.maximum-pool-size=${load.pool-size:10}",
+            "order.stock.mode=OPTIMISTIC"
+    })
+    static class Optimistic extends OrderLoadHarnessTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.OPTIMISTIC;
+        }
+    }
+
+    @SpringBootTest(properties = {
+            "spring.jpa.show-sql=false",
+            "spring.datasource.url=jdbc:h2:mem:order-load-ledger;LOCK_TIMEOUT=${load.lock-timeout-ms:10000}",
+            "spring.datasource.hikari.maximum-pool-size=${load.pool-size:10}",
+            "order.stock.mode=LEDGER"
+    })
+    static class Ledger extends OrderLoadHarnessTest {
+
+        @Override
+        StockMode stockMode() {
+            return StockMode.LEDGER;
+        }
+    }
+}
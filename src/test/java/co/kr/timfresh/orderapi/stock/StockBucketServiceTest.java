@@ -0,0 +1,168 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.dto.ProductStockDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stock-bucket-test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StockBucketServiceTest {
+
+    @Autowired
+    private StockBucketService stockBucketService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+    }
+
+    @Test
+    void 버킷_구성_변경_후_총재고_유지() {
+        // Given
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 10)).getId();
+
+        // When: 4개 버킷으로 분할
+        ProductStockDto bucketed = stockBucketService.configureBuckets(productId, 4);
+
+        // Then: 고르게 나뉘고 총 재고는 그대로
+        assertEquals(List.of(3, 3, 2, 2), bucketed.getBucketStocks());
+        assertEquals(10, stockBucketService.getStock(productId).getTotalStock());
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockQuantity());
+
+        // When: 버킷 해제
+        ProductStockDto merged = stockBucketService.configureBuckets(productId, 0);
+
+        // Then: 총 재고가 상품 행으로 돌아옴
+        assertEquals(0, merged.getBucketCount());
+        assertEquals(10, productRepository.findById(productId).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void 버킷_동시_주문_초과판매_없음() throws InterruptedException {
+        // Given: 재고 20개를 4개 버킷으로 나눈 상품에 50건의 동시 주문
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 20)).getId();
+        stockBucketService.configureBuckets(productId, 4);
+
+        int requestCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+                    successCount.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(20, successCount.get(), "재고 수량만큼만 성공해야 함");
+        assertEquals(30, insufficientCount.get(), "나머지는 재고 부족으로 실패해야 함");
+        assertEquals(0, stockBucketService.getStock(productId).getTotalStock(), "모든 버킷의 재고가 0이 되어야 함");
+    }
+
+    @Test
+    void 여러_버킷에_걸친_차감과_재고_부족() {
+        // Given: 재고 10개를 3, 3, 2, 2 로 나눈 상품
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 10)).getId();
+        stockBucketService.configureBuckets(productId, 4);
+
+        // When: 한 버킷보다 많은 수량 주문
+        orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 7))));
+
+        // Then: 여러 버킷에서 나눠 차감
+        assertEquals(3, stockBucketService.getStock(productId).getTotalStock());
+
+        // When & Then: 버킷 합계보다 많으면 버킷을 쓰지 않는 상품과 같은 예외
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class,
+                () -> orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 4)))));
+        assertEquals("재고가 부족합니다. (현재 재고: 3)", exception.getMessage());
+        assertEquals(3, stockBucketService.getStock(productId).getTotalStock());
+    }
+
+    @Test
+    void 한_트랜잭션의_여러_주문_버킷_차감_유실_없음() {
+        // Given: 재고 20개를 5, 5, 5, 5 로 나눈 상품
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 20)).getId();
+        stockBucketService.configureBuckets(productId, 4);
+
+        // When: 업로드처럼 한 트랜잭션에서 여러 주문 생성
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 여러 버킷에 걸친 차감 (버킷을 잠가 읽음) -> 0, 0, 3, 5
+            orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 12))));
+            // 한 버킷에서 조건부 UPDATE 로 차감 -> 0, 0, 3, 1
+            orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 4))));
+            // 다시 여러 버킷에 걸친 차감: 앞에서 읽은 버킷 값(5)이 아니라 DB 값(1)으로 차감해야 함 -> 0, 0, 0, 0
+            orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 4))));
+        });
+
+        // Then: 차감이 유실되지 않아 재고가 정확히 0
+        ProductStockDto stock = stockBucketService.getStock(productId);
+        assertEquals(0, stock.getTotalStock());
+        assertEquals(List.of(0, 0, 0, 0), stock.getBucketStocks());
+        assertThrows(InsufficientStockException.class,
+                () -> orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1)))));
+    }
+
+    @Test
+    void 버킷_차감_후_트랜잭션_동안만_재고_락_보유_표시() {
+        // Given
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), 10)).getId();
+        stockBucketService.configureBuckets(productId, 2);
+
+        // When & Then: 낙관적 재시도는 표시가 있으면 백오프하지 않음
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertFalse(StockLockTracker.isHeld());
+            stockBucketService.decreaseStock(productId, 1);
+            assertTrue(StockLockTracker.isHeld());
+        });
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> assertFalse(StockLockTracker.isHeld()));
+    }
+}
@@ -0,0 +1,93 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 하나의 인기 상품에 차감이 몰릴 때 재고 차감 방식별 처리량 측정 (./gradlew benchmark)
+ * <p>
+ * DB 에 바로 반영하는 방식만 비교하고, LEDGER 를 포함한 주문 단위 비교는 {@link HotProductOrderBenchmarkTest} 참고
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:stock-benchmark"
+})
+class StockContentionBenchmarkTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int DECREASES_PER_THREAD = 200;
+
+    @Autowired
+    private StockStrategyFactory stockStrategyFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest
+    @EnumSource(value = StockMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LEDGER")
+    void 인기_상품_동시_차감_처리량(StockMode stockMode) throws InterruptedException {
+        int totalDecreases = THREAD_COUNT * DECREASES_PER_THREAD;
+        Long productId = productRepository.save(Product.create("인기 상품", BigDecimal.valueOf(100), totalDecreases)).getId();
+        StockStrategy stockStrategy = stockStrategyFactory.getStrategy(stockMode);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failureCount = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < DECREASES_PER_THREAD; j++) {
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> stockStrategy.decreaseStock(productId, 1));
+                        } catch (RuntimeException e) {
+                            failureCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        int stockLeft = productRepository.findById(productId).orElseThrow().getStockQuantity();
+        System.out.printf("[benchmark] stock mode=%s threads=%d decreases=%d failures=%d elapsed=%dms throughput=%.0f ops/s%n",
+                stockMode, THREAD_COUNT, totalDecreases, failureCount.get(), elapsedNanos / 1_000_000,
+                totalDecreases * 1_000_000_000.0 / elapsedNanos);
+        if (stockStrategy instanceof OptimisticStockStrategy optimistic) {
+            System.out.printf("[benchmark] optimistic retries=%d giveUps=%d%n", optimistic.getRetryCount(), optimistic.getGiveUpCount());
+        }
+
+        assertEquals(failureCount.get(), stockLeft, "성공한 차감 수만큼만 재고가 줄어야 함");
+    }
+}
@@ -0,0 +1,191 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.dto.OrderItemDto;
+import co.kr.timfresh.orderapi.dto.OrderRequestDto;
+import co.kr.timfresh.orderapi.entity.Customer;
+import co.kr.timfresh.orderapi.entity.CustomerType;
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.StockBucketConfigurationException;
+import co.kr.timfresh.orderapi.repository.CustomerRepository;
+import co.kr.timfresh.orderapi.repository.OrderItemRepository;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import co.kr.timfresh.orderapi.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stock-ledger-test",
+        "order.stock.mode=LEDGER",
+        "order.stock.ledger.flush-interval-ms=3600000" // 반영 시점을 테스트에서 직접 제어
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StockLedgerTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InMemoryStockLedger stockLedger;
+
+    @Autowired
+    private StockLedgerFlusher stockLedgerFlusher;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private StockBucketService stockBucketService;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        customerId = customerRepository.save(Customer.create("테스트 고객", "서울시 강남구", CustomerType.DEFAULT)).getId();
+    }
+
+    @Test
+    void 동시_주문_초과판매_없음_및_지연_반영() throws InterruptedException {
+        // Given: 재고 20개 상품에 50건의 동시 주문
+        Long productId = productRepository.save(Product.create("한정 상품", BigDecimal.valueOf(100), 20)).getId();
+
+        int requestCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+                    successCount.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 메모리에서 재고만큼만 성공하고, DB 재고는 플러시 전까지 그대로
+        assertEquals(20, successCount.get(), "재고 수량만큼만 성공해야 함");
+        assertEquals(30, insufficientCount.get(), "나머지는 재고 부족으로 실패해야 함");
+        assertEquals(0, stockLedger.getAvailable(productId));
+        assertEquals(20, productRepository.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(20, orderItemRepository.countByStockPendingTrue());
+
+        // When: 플러시
+        int flushed = stockLedgerFlusher.flushAll();
+
+        // Then: 주문 항목 수만큼 DB 재고에 반영
+        assertEquals(20, flushed);
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(0, orderItemRepository.countByStockPendingTrue());
+    }
+
+    @Test
+    void 동시_플러시에도_재고는_한_번만_반영() throws InterruptedException {
+        // Given: 재고 20개 상품에 1개씩 20건 주문
+        Long productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(100), 20)).getId();
+        for (int i = 0; i < 20; i++) {
+            orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 1))));
+        }
+
+        // When: 여러 플러셔가 같은 미반영 항목을 동시에 반영 (주기 플러시 + 종료 시 플러시, 여러 인스턴스)
+        int flusherCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(flusherCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(flusherCount);
+        for (int i = 0; i < flusherCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    stockLedgerFlusher.flushAll();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+        stockLedgerFlusher.flushAll(); // 겹쳐서 롤백된 배치가 남았으면 반영
+
+        // Then: 주문 항목마다 정확히 한 번 차감
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(0, orderItemRepository.countByStockPendingTrue());
+    }
+
+    @Test
+    void 재시작_후_미반영_주문으로_장부_복구() {
+        // Given: 재고 10개 상품에 2개씩 3건 주문 후 플러시 전 장부 유실 (재시작)
+        Long productId = productRepository.save(Product.create("테스트 상품", BigDecimal.valueOf(100), 10)).getId();
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 2))));
+        }
+        stockLedger.clear();
+
+        // When & Then: DB 재고 - 미반영 주문 수량으로 다시 적재
+        assertEquals(4, stockLedger.getAvailable(productId));
+
+        // When & Then: 플러시 후에도 주문 가능 재고는 같음
+        stockLedgerFlusher.flushAll();
+        stockLedger.clear();
+        assertEquals(4, productRepository.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(4, stockLedger.getAvailable(productId));
+    }
+
+    @Test
+    void 주문_실패_시_확보한_재고_반환() {
+        // Given: 재고가 충분한 상품과 부족한 상품 (ID 순서상 충분한 상품을 먼저 확보)
+        Long enoughProductId = productRepository.save(Product.create("재고 충분", BigDecimal.valueOf(100), 10)).getId();
+        Long shortProductId = productRepository.save(Product.create("재고 부족", BigDecimal.valueOf(100), 1)).getId();
+
+        // When
+        assertThrows(InsufficientStockException.class, () -> orderService.createOrder(new OrderRequestDto(customerId, List.of(
+                new OrderItemDto(enoughProductId, 3),
+                new OrderItemDto(shortProductId, 2)))));
+
+        // Then: 롤백된 주문이 확보했던 재고는 장부로 돌아옴
+        assertEquals(10, stockLedger.getAvailable(enoughProductId));
+        assertEquals(1, stockLedger.getAvailable(shortProductId));
+        assertEquals(0, orderItemRepository.countByStockPendingTrue());
+    }
+
+    @Test
+    void 장부_모드에서_버킷_구성_거부() {
+        // Given: 장부에 확보 수량이 있는 상품
+        Long productId = productRepository.save(Product.create("한정 상품", BigDecimal.valueOf(100), 10)).getId();
+        orderService.createOrder(new OrderRequestDto(customerId, List.of(new OrderItemDto(productId, 3))));
+
+        // When & Then: 미반영 주문이 있는 상품의 재고를 버킷으로 옮기지 않음
+        assertThrows(StockBucketConfigurationException.class, () -> stockBucketService.configureBuckets(productId, 4));
+        stockLedgerFlusher.flushAll();
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockBucketCount());
+    }
+}
@@ -0,0 +1,90 @@
+package co.kr.timfresh.orderapi.stock;
+
+import co.kr.timfresh.orderapi.entity.Product;
+import co.kr.timfresh.orderapi.exception.InsufficientStockException;
+import co.kr.timfresh.orderapi.exception.ProductNotFoundException;
+import co.kr.timfresh.orderapi.repository.ProductRepository;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stock-strategy-test", // 커밋된 데이터가 다른 테스트와 섞이지 않도록 별도 DB 사용
+        "order.stock.optimistic.max-attempts=1000"               // 정확성 검증이 목적이므로 충돌로 포기하지 않도록 설정
+})
+@DirtiesContext
+class StockStrategyConcurrencyTest {
+
+    @Autowired
+    private StockStrategyFactory stockStrategyFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 재고보다 많은 동시 차감 요청에서 정확히 재고만큼만 성공해야 함 (초과 판매 없음)
+     * <p>
+     * LEDGER 는 주문 항목을 통해 DB 에 반영되므로 주문 단위로 {@link StockLedgerTest} 에서 검증
+     */
+    @ParameterizedTest
+    @EnumSource(value = StockMode.class, mode = EnumSource.Mode.EXCLUDE, names = "LEDGER")
+    void 동시_차감_초과판매_없음(StockMode stockMode) throws InterruptedException {
+        // Given: 재고 20개 상품에 50건의 동시 차감 요청
+        Product product = productRepository.save(Product.create("한정 상품", BigDecimal.valueOf(100), 20));
+        Long productId = product.getId();
+        StockStrategy stockStrategy = stockStrategyFactory.getStrategy(stockMode);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int requestCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> stockStrategy.decreaseStock(productId, 1));
+                    successCount.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    insufficientCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(20, successCount.get(), "재고 수량만큼만 성공해야 함");
+        assertEquals(30, insufficientCount.get(), "나머지는 재고 부족으로 실패해야 함");
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStockQuantity(), "재고는 0이 되어야 함");
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockMode.class)
+    void 없는_상품_차감_실패(StockMode stockMode) {
+        StockStrategy stockStrategy = stockStrategyFactory.getStrategy(stockMode);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThrows(ProductNotFoundException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> stockStrategy.decreaseStock(999_999L, 1)));
+    }
+}
@@ -0,0 +1,66 @@
+package co.kr.timfresh.orderapi.strategy;
+
+import co.kr.timfresh.orderapi.money.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Money 가격 계산이 기존 BigDecimal 계산과 같은 결과(값과 소수점 자릿수)를 내는지 검증
+ */
+class PriceStrategyTest {
+
+    private static final int[] QUANTITIES = {1, 2, 3, 7, 10, 33, 99, 100, 1_000, 65_535};
+
+    private final DefaultPriceStrategy defaultPriceStrategy = new DefaultPriceStrategy();
+    private final VipPriceStrategy vipPriceStrategy = new VipPriceStrategy();
+
+    @Test
+    void 일반_고객_가격은_기존_BigDecimal_계산과_동일() {
+        for (BigDecimal basePrice : basePrices()) {
+            for (int quantity : QUANTITIES) {
+                BigDecimal expected = basePrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+
+                BigDecimal actual = defaultPriceStrategy.calculatePrice(Money.of(basePrice), quantity).toBigDecimal();
+
+                assertEquals(expected, actual, "basePrice=" + basePrice + " quantity=" + quantity);
+            }
+        }
+    }
+
+    @Test
+    void VIP_고객_가격은_기존_BigDecimal_계산과_동일() {
+        for (BigDecimal basePrice : basePrices()) {
+            for (int quantity : QUANTITIES) {
+                BigDecimal expected = basePrice.multiply(BigDecimal.valueOf(quantity))
+                        .multiply(BigDecimal.valueOf(0.9)).setScale(2, RoundingMode.HALF_UP);
+
+                BigDecimal actual = vipPriceStrategy.calculatePrice(Money.of(basePrice), quantity).toBigDecimal();
+
+                assertEquals(expected, actual, "basePrice=" + basePrice + " quantity=" + quantity);
+            }
+        }
+    }
+
+    /**
+     * DB 컬럼(소수점 둘째 자리)에 저장될 수 있는 가격: 반올림 경계값 + 무작위 값
+     */
+    private List<BigDecimal> basePrices() {
+        List<BigDecimal> prices = new ArrayList<>(List.of(
+                new BigDecimal("0"), new BigDecimal("0.01"), new BigDecimal("0.05"), new BigDecimal("0.15"),
+                new BigDecimal("0.5"), new BigDecimal("1.11"), new BigDecimal("99.95"), new BigDecimal("100"),
+                new BigDecimal("1000"), new BigDecimal("12900.50"), new BigDecimal("1000000"), new BigDecimal("99999999.99")));
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 1_000; i++) {
+            int scale = random.nextInt(3);
+            prices.add(BigDecimal.valueOf(random.nextLong(100_000_000L * (long) Math.pow(10, scale)), scale)); // 1억 미만
+        }
+        return prices;
+    }
+}
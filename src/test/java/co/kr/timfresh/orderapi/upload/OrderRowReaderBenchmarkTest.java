@@ -0,0 +1,124 @@
+package co.kr.timfresh.orderapi.upload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 100,000행 데이터를 XLSX / CSV / NDJSON 으로 읽는 처리량 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class OrderRowReaderBenchmarkTest {
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int ITERATIONS = 5;
+
+    private static Path xlsxFile;
+    private static Path csvFile;
+    private static Path ndjsonFile;
+
+    @BeforeAll
+    static void createFiles() throws IOException {
+        xlsxFile = Files.createTempFile("order-benchmark-", ".xlsx");
+        csvFile = Files.createTempFile("order-benchmark-", ".csv");
+        ndjsonFile = Files.createTempFile("order-benchmark-", ".ndjson");
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(xlsxFile)) {
+            Sheet sheet = workbook.createSheet("Orders");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Customer ID");
+            header.createCell(1).setCellValue("Product ID");
+            header.createCell(2).setCellValue("Quantity");
+            header.createCell(3).setCellValue("Order Ref");
+            for (int i = 1; i <= ROW_COUNT; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(customerId(i));
+                row.createCell(1).setCellValue(productId(i));
+                row.createCell(2).setCellValue(quantity(i));
+                row.createCell(3).setCellValue(orderRef(i));
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+
+        try (BufferedWriter csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+             BufferedWriter ndjson = Files.newBufferedWriter(ndjsonFile, StandardCharsets.UTF_8)) {
+            csv.write("Customer ID,Product ID,Quantity,Order Ref\n");
+            for (int i = 1; i <= ROW_COUNT; i++) {
+                csv.write(customerId(i) + "," + productId(i) + "," + quantity(i) + "," + orderRef(i) + "\n");
+                ndjson.write("{\"customerId\":" + customerId(i) + ",\"productId\":" + productId(i)
+                        + ",\"quantity\":" + quantity(i) + ",\"orderRef\":\"" + orderRef(i) + "\"}\n");
+            }
+        }
+    }
+
+    @AfterAll
+    static void deleteFiles() throws IOException {
+        Files.deleteIfExists(xlsxFile);
+        Files.deleteIfExists(csvFile);
+        Files.deleteIfExists(ndjsonFile);
+    }
+
+    @Test
+    void 파일_형식별_읽기_처리량() {
+        run("xlsx", new XlsxOrderRowReader(), xlsxFile);
+        run("csv", new CsvOrderRowReader(), csvFile);
+        run("ndjson", new NdjsonOrderRowReader(new ObjectMapper()), ndjsonFile);
+    }
+
+    private void run(String name, OrderRowReader reader, Path file) {
+        read(reader, file); // JIT 워밍업
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals(ROW_COUNT, read(reader, file));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long total = (long) ROW_COUNT * ITERATIONS;
+        System.out.printf("[benchmark] order file=%s rows=%d iterations=%d elapsed=%dms throughput=%.0f rows/s%n",
+                name, ROW_COUNT, ITERATIONS, elapsedNanos / 1_000_000, total * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private long read(OrderRowReader reader, Path file) {
+        AtomicLong checksum = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        reader.read(file, row -> {
+            checksum.addAndGet(row.getCustomerId() + row.getProductId() + row.getQuantity());
+            rows.incrementAndGet();
+        });
+        return rows.get();
+    }
+
+    private static long customerId(int i) {
+        return i % 1_000 + 1;
+    }
+
+    private static long productId(int i) {
+        return i % 500 + 1;
+    }
+
+    private static int quantity(int i) {
+        return i % 5 + 1;
+    }
+
+    private static String orderRef(int i) {
+        return "REF-" + i / 10;
+    }
+}
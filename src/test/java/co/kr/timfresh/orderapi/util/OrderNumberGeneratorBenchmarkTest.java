@@ -0,0 +1,82 @@
+package co.kr.timfresh.orderapi.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 주문번호 생성 처리량을 기존 방식(날짜 포맷 + UUID)과 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class OrderNumberGeneratorBenchmarkTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int PER_THREAD = 200_000;
+    private static final DateTimeFormatter LEGACY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    @Test
+    void 주문번호_생성_처리량() throws InterruptedException {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, Clock.systemUTC());
+
+        // JIT 워밍업
+        run(OrderNumberGeneratorBenchmarkTest::legacyOrderNumber);
+        run(generator::generateOrderNumber);
+
+        print("legacy(uuid)", run(OrderNumberGeneratorBenchmarkTest::legacyOrderNumber));
+        print("snowflake", run(generator::generateOrderNumber));
+    }
+
+    /**
+     * 기존 구현 (LocalDateTime 포맷 + UUID 앞 12자리)
+     */
+    private static String legacyOrderNumber() {
+        String timestamp = LocalDateTime.now().format(LEGACY_FORMATTER);
+        String uuidShort = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+        return timestamp + "-" + uuidShort;
+    }
+
+    private long run(Supplier<String> generator) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    int length = 0;
+                    for (int j = 0; j < PER_THREAD; j++) {
+                        length += generator.get().length();
+                    }
+                    if (length == 0) {
+                        throw new IllegalStateException();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+        return elapsedNanos;
+    }
+
+    private void print(String name, long elapsedNanos) {
+        long total = (long) THREAD_COUNT * PER_THREAD;
+        System.out.printf("[benchmark] order number=%s threads=%d count=%d elapsed=%dms throughput=%.0f ops/s%n",
+                name, THREAD_COUNT, total, elapsedNanos / 1_000_000, total * 1_000_000_000.0 / elapsedNanos);
+    }
+}
@@ -0,0 +1,153 @@
+package co.kr.timfresh.orderapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNumberGeneratorTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2024-02-22T05:56:23.987Z"), ZoneId.of("Asia/Seoul"));
+
+    @Test
+    void 날짜_접두어와_노드_순번_형식() {
+        // Given
+        OrderNumberGenerator generator = new OrderNumberGenerator(0x1A, FIXED_CLOCK);
+
+        // When
+        String first = generator.generateOrderNumber();
+        String second = generator.generateOrderNumber();
+
+        // Then
+        assertEquals("20240222-145623-987-01A000", first);
+        assertEquals("20240222-145623-987-01A001", second);
+    }
+
+    @Test
+    void 순번_소진_시_다음_밀리초_사용() {
+        // Given: 시계가 멈춘 상태에서 한 밀리초의 순번(4096개)을 모두 사용
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, FIXED_CLOCK);
+        String last = null;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.generateOrderNumber();
+        }
+        assertEquals("20240222-145623-987-001FFF", last);
+
+        // When & Then: 다음 밀리초로 넘어가 정렬 순서 유지
+        String next = generator.generateOrderNumber();
+        assertEquals("20240222-145623-988-001000", next);
+        assertTrue(next.compareTo(last) > 0);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_증가() {
+        // Given
+        Instant now = Instant.parse("2024-02-22T05:56:23.987Z");
+        MutableClock clock = new MutableClock(now);
+        OrderNumberGenerator generator = new OrderNumberGenerator(0, clock);
+        String before = generator.generateOrderNumber();
+
+        // When
+        clock.instant = now.minusSeconds(1);
+        String after = generator.generateOrderNumber();
+
+        // Then
+        assertTrue(after.compareTo(before) > 0, before + " < " + after);
+    }
+
+    @Test
+    void 노드가_다르면_같은_밀리초에도_겹치지_않음() {
+        OrderNumberGenerator node1 = new OrderNumberGenerator(1, FIXED_CLOCK);
+        OrderNumberGenerator node2 = new OrderNumberGenerator(2, FIXED_CLOCK);
+
+        assertNotEquals(node1.generateOrderNumber(), node2.generateOrderNumber());
+    }
+
+    @Test
+    void 잘못된_노드_ID() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(4096, FIXED_CLOCK));
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(-1, FIXED_CLOCK));
+    }
+
+    /**
+     * 여러 스레드가 동시에 생성해도 중복이 없고, 각 스레드가 받은 번호는 증가해야 함
+     */
+    @Test
+    void 동시_생성_중복_없음() throws InterruptedException {
+        // Given
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, Clock.systemUTC());
+        int threadCount = 16;
+        int perThread = 50_000;
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+        AtomicInteger outOfOrderCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    List<String> generated = new ArrayList<>(perThread);
+                    for (int j = 0; j < perThread; j++) {
+                        generated.add(generator.generateOrderNumber());
+                    }
+                    for (int j = 1; j < generated.size(); j++) {
+                        if (generated.get(j).compareTo(generated.get(j - 1)) <= 0) {
+                            outOfOrderCount.incrementAndGet();
+                        }
+                    }
+                    orderNumbers.addAll(generated);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(threadCount * perThread, orderNumbers.size(), "주문번호가 중복되면 안 됨");
+        assertEquals(0, outOfOrderCount.get(), "스레드가 받은 주문번호는 시간순이어야 함");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}